@@ -1,44 +1,226 @@
 package com.reliaquest.api.client;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.BatchResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 @Component
 public class EmployeeClient {
 
-    private static final String BASE = "http://localhost:8112/api/v1/employee";
+    static final String BASE = "http://localhost:8112/api/v1/employee";
+    static final int MAX_RETRIES = 3;
+    static final int MAX_BATCH_SIZE = 10_000;
+    private static final String ROSTER = "roster";
     private final RestTemplate http;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+    private final AsyncTaskExecutor executor;
+    private final UpstreamRateLimiter rateLimiter;
+    private final int pageSize;
+    private final Counter retries;
+    private final Counter retriesExhausted;
+    private final SingleFlight<String, List<Employee>> rosterFlight = new SingleFlight<>();
+    private final SingleFlight<String, Employee> employeeFlight = new SingleFlight<>();
 
-    public EmployeeClient(RestTemplate http) {
+    public EmployeeClient(
+            RestTemplate http,
+            ObjectMapper objectMapper,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor,
+            UpstreamRateLimiter rateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${employee.client.page-size:0}") int pageSize) {
         this.http = http;
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(Employee.class);
+        this.executor = executor;
+        this.rateLimiter = rateLimiter;
+        this.pageSize = pageSize;
+        this.retries = Counter.builder("employee.upstream.retries")
+                .description("Upstream calls retried after a 429")
+                .register(meterRegistry);
+        this.retriesExhausted = Counter.builder("employee.upstream.retries.exhausted")
+                .description("Upstream calls that still got a 429 after all retries")
+                .register(meterRegistry);
     }
 
     /**
      * Fetch all employees from the mock server and returns API model.
+     * <p>
+     * With {@code employee.client.page-size} set, the roster is fetched in pages of that size instead of one response:
+     * the first page reports the total, and the remaining pages are then requested concurrently and merged as they
+     * arrive. Each page costs one request against the mock server's rate limit, so this is off by default.
+     * </p>
+     * <p>
+     * Pages are offsets into a live roster, so a delete landing mid-fetch shifts rows back across a page boundary. When
+     * the merged pages don't add up to the total every page reported, the roster is read again by walking the mock
+     * server's cursor, which follows insertion order and can't skip a row.
+     * </p>
+     * <p>
+     * Concurrent callers share a single in-flight fetch, so the returned list is unmodifiable.
+     * </p>
      */
     public List<Employee> getAllEmployees() {
+        return rosterFlight.execute(ROSTER, () -> {
+            return Collections.unmodifiableList(fetchAllEmployees());
+        });
+    }
+
+    private List<Employee> fetchAllEmployees() {
+        if (pageSize > 0) {
+            return getAllEmployeesPaged();
+        }
         ResponseEntity<ApiResponse<List<Employee>>> resp = withRetry(() -> http.exchange(
                 BASE, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {}));
         ApiResponse<List<Employee>> body = resp.getBody();
         return (body == null || body.getData() == null) ? List.of() : body.getData();
     }
 
+    /**
+     * Streams all employees from the mock server to the consumer as the response is parsed.
+     * <p>
+     * The {@code data} array is read token by token, so only one employee is held at a time and single-pass aggregates
+     * run in constant memory however large the roster is.
+     * </p>
+     */
+    public void forEachEmployee(Consumer<Employee> consumer) {
+        withRetry(() -> http.execute(BASE, HttpMethod.GET, null, response -> {
+            try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new EmployeeApiException("Unexpected roster payload from mock server");
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            consumer.accept(employeeReader.readValue(parser));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            return null;
+        }));
+    }
+
+    private List<Employee> getAllEmployeesPaged() {
+        EmployeePage first = getPage(0);
+        int pages = Math.max(1, (first.getTotal() + pageSize - 1) / pageSize);
+        PageMerger merger = new PageMerger(pages, first.getTotal());
+        merger.arrived(0, first);
+        List<CompletableFuture<EmployeePage>> fetches = IntStream.range(1, pages)
+                .mapToObj(page -> CompletableFuture.supplyAsync(() -> getPage(page), executor))
+                .toList();
+        // each page is merged by the thread that fetched it, and the first failure ends the wait right away
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        CompletableFuture<?>[] merged = IntStream.range(1, pages)
+                .mapToObj(page -> fetches.get(page - 1)
+                        .thenAccept(fetched -> merger.arrived(page, fetched))
+                        .whenComplete((ignored, e) -> {
+                            if (e != null) {
+                                failed.completeExceptionally(e);
+                            }
+                        }))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(merged), failed).join();
+        } catch (CompletionException e) {
+            fetches.forEach(page -> page.cancel(true));
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return merger.isComplete() ? merger.roster() : getAllEmployeesByCursor();
+    }
+
+    private List<Employee> getAllEmployeesByCursor() {
+        List<Employee> roster = new ArrayList<>();
+        EmployeePage page = getPageAfter(null);
+        roster.addAll(page.getItems());
+        while (page.getNextCursor() != null) {
+            page = getPageAfter(page.getNextCursor());
+            roster.addAll(page.getItems());
+        }
+        return roster;
+    }
+
+    private EmployeePage getPageAfter(String cursor) {
+        ResponseEntity<ApiResponse<EmployeePage>> resp = withRetry(() -> cursor == null
+                ? http.exchange(
+                        BASE + "?limit={limit}",
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<ApiResponse<EmployeePage>>() {},
+                        pageSize)
+                : http.exchange(
+                        BASE + "?cursor={cursor}&limit={limit}",
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<ApiResponse<EmployeePage>>() {},
+                        cursor,
+                        pageSize));
+        ApiResponse<EmployeePage> body = resp.getBody();
+        return (body == null || body.getData() == null) ? new EmployeePage() : body.getData();
+    }
+
+    private EmployeePage getPage(int page) {
+        ResponseEntity<ApiResponse<EmployeePage>> resp = withRetry(() -> http.exchange(
+                BASE + "?page={page}&limit={limit}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<ApiResponse<EmployeePage>>() {},
+                page,
+                pageSize));
+        ApiResponse<EmployeePage> body = resp.getBody();
+        return (body == null || body.getData() == null) ? new EmployeePage() : body.getData();
+    }
+
     /**
      * Fetch one employee by id. Returns null if the mock returns no data.
+     * Concurrent callers asking for the same id share a single in-flight request.
      */
     public Employee getEmployeeById(String id) {
+        return employeeFlight.execute(id, () -> fetchEmployeeById(id));
+    }
+
+    private Employee fetchEmployeeById(String id) {
         ResponseEntity<ApiResponse<Employee>> resp = withRetry(() -> http.exchange(
-                BASE + "/" + id, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<Employee>>() {}));
+                BASE + "/{id}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<ApiResponse<Employee>>() {},
+                id));
         ApiResponse<Employee> body = resp.getBody();
         return body == null ? null : body.getData();
     }
@@ -58,27 +240,147 @@ public class EmployeeClient {
 
     /**
      * Delete by id.
-     * If the mock server expects DELETE with a JSON body { "name": "..."}, we first resolve the id to get the name.
+     * The mock server expects DELETE with a JSON body { "name": "..."}. Callers pass the name when they already know
+     * it, typically from the roster replica; only without one is the id resolved with a GET first.
      * Returns a confirmation string (or null if nothing came back).
      */
-    public String deleteEmployeeById(String id) {
-        Employee e = getEmployeeById(id);
-        if (e == null || e.getName() == null) return null;
+    public String deleteEmployeeById(String id, String knownName) {
+        String name = knownName;
+        if (name == null) {
+            Employee e = getEmployeeById(id);
+            if (e == null || e.getName() == null) return null;
+            name = e.getName();
+        }
 
+        NameDeleteBody deleteBody = new NameDeleteBody(name);
         ResponseEntity<ApiResponse<String>> resp = withRetry(() -> http.exchange(
                 BASE,
                 HttpMethod.DELETE,
-                new HttpEntity<>(new NameDeleteBody(e.getName())),
+                new HttpEntity<>(deleteBody),
                 new ParameterizedTypeReference<ApiResponse<String>>() {}));
         ApiResponse<String> body = resp.getBody();
         return body == null ? null : body.getData();
     }
 
+    /**
+     * Create employees in batches of up to {@link #MAX_BATCH_SIZE}, one upstream request per batch. Returns one result
+     * per input, in order.
+     */
+    public List<BatchResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs) {
+        List<BatchResult<Employee>> results = new ArrayList<>(inputs.size());
+        for (int from = 0; from < inputs.size(); from += MAX_BATCH_SIZE) {
+            List<CreateEmployeeInput> batch = inputs.subList(from, Math.min(inputs.size(), from + MAX_BATCH_SIZE));
+            ResponseEntity<ApiResponse<List<BatchResult<Employee>>>> resp = withRetry(() -> http.exchange(
+                    BASE + "/batch",
+                    HttpMethod.POST,
+                    new HttpEntity<>(batch),
+                    new ParameterizedTypeReference<ApiResponse<List<BatchResult<Employee>>>>() {}));
+            List<BatchResult<Employee>> created = batchResults(resp.getBody(), batch.size());
+            results.addAll(created);
+        }
+        return results;
+    }
+
+    /**
+     * Delete employees by id in batches of up to {@link #MAX_BATCH_SIZE}. Names come from {@code knownName}; only ids
+     * it returns {@code null} for are looked up first. Returns one result per id, in order: the id if it was deleted,
+     * otherwise why not.
+     */
+    public List<BatchResult<String>> deleteEmployeesById(List<String> ids, Function<String, String> knownName) {
+        List<BatchResult<String>> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+            results.addAll(deleteBatch(ids.subList(from, Math.min(ids.size(), from + MAX_BATCH_SIZE)), knownName));
+        }
+        return results;
+    }
+
+    private List<BatchResult<String>> deleteBatch(List<String> ids, Function<String, String> knownName) {
+        List<BatchResult<String>> results = new ArrayList<>(Collections.nCopies(ids.size(), null));
+        List<NameDeleteBody> bodies = new ArrayList<>(ids.size());
+        List<Integer> positions = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            String name = knownName.apply(ids.get(i));
+            if (name == null) {
+                name = lookupName(ids.get(i));
+            }
+            if (name == null) {
+                results.set(i, BatchResult.rejected("Employee not found: " + ids.get(i)));
+            } else {
+                bodies.add(new NameDeleteBody(name));
+                positions.add(i);
+            }
+        }
+        if (bodies.isEmpty()) {
+            return results;
+        }
+        ResponseEntity<ApiResponse<List<BatchResult<Boolean>>>> resp = withRetry(() -> http.exchange(
+                BASE + "/batch",
+                HttpMethod.DELETE,
+                new HttpEntity<>(bodies),
+                new ParameterizedTypeReference<ApiResponse<List<BatchResult<Boolean>>>>() {}));
+        recordDeletes(ids, positions, batchResults(resp.getBody(), bodies.size()), results);
+        return results;
+    }
+
+    /**
+     * Fills in the results for the ids at {@code positions} from the mock server's answers to their deletes, in the
+     * same order.
+     */
+    static void recordDeletes(
+            List<String> ids,
+            List<Integer> positions,
+            List<BatchResult<Boolean>> deleted,
+            List<BatchResult<String>> results) {
+        for (int i = 0; i < deleted.size(); i++) {
+            String id = ids.get(positions.get(i));
+            BatchResult<Boolean> result = deleted.get(i);
+            if (Boolean.TRUE.equals(result.getData())) {
+                results.set(positions.get(i), BatchResult.applied(id));
+            } else {
+                results.set(
+                        positions.get(i),
+                        BatchResult.rejected(
+                                result.getError() != null ? result.getError() : "Employee not found: " + id));
+            }
+        }
+    }
+
+    /**
+     * @return whether the id is a UUID at all, which the mock server would otherwise answer with an error
+     */
+    static boolean isUuid(String id) {
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    private String lookupName(String id) {
+        if (!isUuid(id)) {
+            return null;
+        }
+        try {
+            Employee e = getEmployeeById(id);
+            return e == null ? null : e.getName();
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        }
+    }
+
+    static <T> List<BatchResult<T>> batchResults(ApiResponse<List<BatchResult<T>>> body, int expected) {
+        if (body == null || body.getData() == null || body.getData().size() != expected) {
+            throw new EmployeeApiException("Unexpected batch response from mock server");
+        }
+        return body.getData();
+    }
+
     /**
      * Matches the mock server envelope: { "data": ... } (other fields ignored).
      */
     @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class ApiResponse<T> {
+    static class ApiResponse<T> {
         private T data;
 
         public T getData() {
@@ -90,10 +392,85 @@ public class EmployeeClient {
         }
     }
 
+    /**
+     * Merges fetched pages into one roster, in page order, as they arrive. A page that comes in ahead of its turn is
+     * held only until the pages before it are in, so the merge keeps pace with the fetches instead of starting once
+     * all of them are done.
+     */
+    private static final class PageMerger {
+        // pages are offsets into a live roster, so a concurrent delete can shift an employee onto two pages
+        private final Map<UUID, Employee> byId;
+        private final EmployeePage[] waiting;
+        private final int total;
+        private boolean totalChanged;
+        private int next;
+
+        private PageMerger(int pages, int total) {
+            this.byId = new LinkedHashMap<>(total * 2);
+            this.waiting = new EmployeePage[pages];
+            this.total = total;
+        }
+
+        synchronized void arrived(int page, EmployeePage fetched) {
+            totalChanged |= fetched.getTotal() != total;
+            waiting[page] = fetched;
+            while (next < waiting.length && waiting[next] != null) {
+                waiting[next].getItems().forEach(e -> byId.put(e.getId(), e));
+                waiting[next++] = null;
+            }
+        }
+
+        /**
+         * Whether the roster held still while the pages were fetched: every page reported the same total, and the
+         * merged pages hold exactly that many employees.
+         */
+        synchronized boolean isComplete() {
+            return !totalChanged && byId.size() == total;
+        }
+
+        synchronized List<Employee> roster() {
+            return new ArrayList<>(byId.values());
+        }
+    }
+
+    /**
+     * Matches one page of the mock server's paged listing: { "items": [...], "total": ..., "nextCursor": ... }.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class EmployeePage {
+        private List<Employee> items = List.of();
+        private int total;
+        private String nextCursor;
+
+        public List<Employee> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Employee> items) {
+            this.items = items == null ? List.of() : items;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public void setTotal(int total) {
+            this.total = total;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public void setNextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+        }
+    }
+
     /**
      * Used when the mock server expects DELETE with a JSON body containing the employee name.
      */
-    private static class NameDeleteBody {
+    static class NameDeleteBody {
         public String name;
 
         NameDeleteBody(String name) {
@@ -101,24 +478,31 @@ public class EmployeeClient {
         }
     }
 
-    // --- retry helper for transient 429s ---
+    // --- rate limiting + retry for 429s ---
     private <T> T withRetry(Supplier<T> call) {
         int attempts = 0;
-        long backoff = 200;
         while (true) {
+            rateLimiter.acquire();
             try {
-                return call.get();
+                T result = call.get();
+                rateLimiter.onSuccess();
+                return result;
             } catch (HttpStatusCodeException ex) {
-                if (ex.getStatusCode().value() == 429 && attempts < 3) {
-                    try {
-                        Thread.sleep(backoff);
-                    } catch (InterruptedException ignored) {
-                    }
-                    attempts++;
-                    backoff *= 2;
-                } else {
+                if (ex.getStatusCode().value() != 429) {
+                    throw ex;
+                }
+                HttpHeaders headers = ex.getResponseHeaders();
+                rateLimiter.onThrottled(UpstreamRateLimiter.parseRetryAfter(
+                        headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER)));
+                // a pause longer than the max wait would only have the retry shed, so pass the 429 on instead
+                if (!rateLimiter.hasSlotWithinMaxWait()) {
+                    throw ex;
+                }
+                if (++attempts > MAX_RETRIES) {
+                    retriesExhausted.increment();
                     throw ex;
                 }
+                retries.increment();
             }
         }
     }
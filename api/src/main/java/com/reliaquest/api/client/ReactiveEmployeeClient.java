@@ -0,0 +1,190 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.BatchResult;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeClient}, built on {@link WebClient}.
+ * <p>
+ * Calls go through the same {@link UpstreamRateLimiter}, but a call that has to queue for its slot waits on a timer
+ * instead of a sleeping thread, and 429s are retried by resubscribing rather than blocking. Only active in
+ * {@code employee.api.mode=reactive}.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "reactive")
+public class ReactiveEmployeeClient {
+
+    private final WebClient http;
+    private final UpstreamRateLimiter rateLimiter;
+    private final Counter retries;
+    private final Counter retriesExhausted;
+
+    public ReactiveEmployeeClient(
+            WebClient.Builder builder, UpstreamRateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.http = builder.baseUrl(EmployeeClient.BASE).build();
+        this.rateLimiter = rateLimiter;
+        // same meters as EmployeeClient; only one of the two makes upstream writes in a given mode
+        this.retries = meterRegistry.counter("employee.upstream.retries");
+        this.retriesExhausted = meterRegistry.counter("employee.upstream.retries.exhausted");
+    }
+
+    public Mono<List<Employee>> getAllEmployees() {
+        return limited(() -> http.get()
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<EmployeeClient.ApiResponse<List<Employee>>>() {}))
+                .mapNotNull(EmployeeClient.ApiResponse::getData)
+                .defaultIfEmpty(List.of());
+    }
+
+    /**
+     * Completes empty if the mock server doesn't know the id.
+     */
+    public Mono<Employee> getEmployeeById(String id) {
+        return limited(() -> http.get()
+                        .uri("/{id}", id)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<EmployeeClient.ApiResponse<Employee>>() {}))
+                .mapNotNull(EmployeeClient.ApiResponse::getData)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+    }
+
+    public Mono<Employee> createEmployee(CreateEmployeeInput input) {
+        return limited(() -> http.post()
+                        .bodyValue(input)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<EmployeeClient.ApiResponse<Employee>>() {}))
+                .mapNotNull(EmployeeClient.ApiResponse::getData);
+    }
+
+    /**
+     * Deletes by name as the mock server requires. The name is the caller's {@code knownName}, falling back to a
+     * lookup without one. Completes empty if the id is unknown.
+     */
+    public Mono<String> deleteEmployeeById(String id, String knownName) {
+        return Mono.justOrEmpty(knownName)
+                .switchIfEmpty(Mono.defer(() -> getEmployeeById(id).mapNotNull(Employee::getName)))
+                .flatMap(name -> limited(() -> http.method(HttpMethod.DELETE)
+                        .bodyValue(new EmployeeClient.NameDeleteBody(name))
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<EmployeeClient.ApiResponse<String>>() {})))
+                .mapNotNull(EmployeeClient.ApiResponse::getData);
+    }
+
+    /**
+     * Non-blocking {@link EmployeeClient#createEmployees(List)}: the batches are sent one after another, and the
+     * results come back one per input, in order.
+     */
+    public Mono<List<BatchResult<Employee>>> createEmployees(List<CreateEmployeeInput> inputs) {
+        return Flux.fromIterable(batches(inputs))
+                .concatMap(batch -> limited(() -> http.post()
+                                .uri("/batch")
+                                .bodyValue(batch)
+                                .retrieve()
+                                .bodyToMono(new ParameterizedTypeReference<
+                                        EmployeeClient.ApiResponse<List<BatchResult<Employee>>>>() {}))
+                        .defaultIfEmpty(new EmployeeClient.ApiResponse<>())
+                        .map(body -> EmployeeClient.batchResults(body, batch.size())))
+                .flatMapIterable(created -> created)
+                .collectList();
+    }
+
+    /**
+     * Non-blocking {@link EmployeeClient#deleteEmployeesById(List, Function)}: names come from {@code knownName}, and
+     * only ids it returns {@code null} for are looked up first. Returns one result per id, in order: the id if it was
+     * deleted, otherwise why not.
+     */
+    public Mono<List<BatchResult<String>>> deleteEmployeesById(List<String> ids, Function<String, String> knownName) {
+        return Flux.fromIterable(batches(ids))
+                .concatMap(batch -> deleteBatch(batch, knownName))
+                .flatMapIterable(deleted -> deleted)
+                .collectList();
+    }
+
+    private Mono<List<BatchResult<String>>> deleteBatch(List<String> ids, Function<String, String> knownName) {
+        return Flux.fromIterable(ids)
+                .concatMap(id -> nameOf(id, knownName.apply(id)).map(Optional::of).defaultIfEmpty(Optional.empty()))
+                .collectList()
+                .flatMap(found -> {
+                    List<BatchResult<String>> results = new ArrayList<>(Collections.nCopies(ids.size(), null));
+                    List<EmployeeClient.NameDeleteBody> bodies = new ArrayList<>(ids.size());
+                    List<Integer> positions = new ArrayList<>(ids.size());
+                    for (int i = 0; i < ids.size(); i++) {
+                        if (found.get(i).isEmpty()) {
+                            results.set(i, BatchResult.rejected("Employee not found: " + ids.get(i)));
+                        } else {
+                            bodies.add(new EmployeeClient.NameDeleteBody(found.get(i).get()));
+                            positions.add(i);
+                        }
+                    }
+                    if (bodies.isEmpty()) {
+                        return Mono.just(results);
+                    }
+                    return limited(() -> http.method(HttpMethod.DELETE)
+                                    .uri("/batch")
+                                    .bodyValue(bodies)
+                                    .retrieve()
+                                    .bodyToMono(new ParameterizedTypeReference<
+                                            EmployeeClient.ApiResponse<List<BatchResult<Boolean>>>>() {}))
+                            .defaultIfEmpty(new EmployeeClient.ApiResponse<>())
+                            .map(body -> {
+                                List<BatchResult<Boolean>> deleted = EmployeeClient.batchResults(body, bodies.size());
+                                EmployeeClient.recordDeletes(ids, positions, deleted, results);
+                                return results;
+                            });
+                });
+    }
+
+    private Mono<String> nameOf(String id, String knownName) {
+        return Mono.justOrEmpty(knownName)
+                .switchIfEmpty(Mono.defer(() -> EmployeeClient.isUuid(id)
+                        ? getEmployeeById(id).mapNotNull(Employee::getName)
+                        : Mono.empty()));
+    }
+
+    private static <T> List<List<T>> batches(List<T> items) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += EmployeeClient.MAX_BATCH_SIZE) {
+            batches.add(items.subList(from, Math.min(items.size(), from + EmployeeClient.MAX_BATCH_SIZE)));
+        }
+        return batches;
+    }
+
+    private <T> Mono<T> limited(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+                    long waitNanos = rateLimiter.reserve();
+                    Mono<T> send = call.get().doOnSuccess(ignored -> rateLimiter.onSuccess());
+                    return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then(send) : send;
+                })
+                .doOnError(WebClientResponseException.TooManyRequests.class, ex -> rateLimiter.onThrottled(
+                        UpstreamRateLimiter.parseRetryAfter(ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER))))
+                .retryWhen(Retry.max(EmployeeClient.MAX_RETRIES)
+                        .filter(ex -> ex instanceof WebClientResponseException.TooManyRequests
+                                && rateLimiter.hasSlotWithinMaxWait())
+                        .doBeforeRetry(signal -> retries.increment())
+                        .onRetryExhaustedThrow((spec, signal) -> {
+                            retriesExhausted.increment();
+                            return signal.failure();
+                        }));
+    }
+}
@@ -0,0 +1,216 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side limiter for requests to the mock server, so we stay inside its request budget instead of discovering it
+ * through 429s.
+ * <p>
+ * Requests are paced with a token bucket (GCRA): at most {@code burst} back-to-back, then one per {@code 1 / rate}
+ * seconds. The rate is learned AIMD-style - every successful call adds {@code increase} requests/second, every 429
+ * halves it - so it settles just under whatever budget the server enforces. A 429 also blocks all calls until its
+ * {@code Retry-After} has passed, or, without that header, for a cooldown that doubles on consecutive 429s.
+ * </p>
+ * <p>
+ * Callers queue for their slot, but only up to {@code max-wait}; a call that would have to wait longer is shed right
+ * away with {@link UpstreamRateLimitedException} rather than tying up a request thread only to be rejected upstream.
+ * The cooldown therefore starts below {@code max-wait}, so the first retry after a 429 without {@code Retry-After}
+ * can still queue for its slot. Clients only retry a 429 while {@link #hasSlotWithinMaxWait()} holds; a longer
+ * {@code Retry-After} is passed on as it is instead of being retried into a shed.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UpstreamRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increase;
+    private final double decreaseFactor;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final long cooldownNanos;
+    private final long maxCooldownNanos;
+    private final LongSupplier nanoClock;
+    private final Timer waits;
+    private final Counter shed;
+    private final Counter throttled;
+
+    private double rate;
+    private long theoreticalArrival;
+    private long blockedUntil;
+    private int consecutiveThrottles;
+
+    public UpstreamRateLimiter(
+            @Value("${employee.rate-limit.initial-rate:1.0}") double initialRate,
+            @Value("${employee.rate-limit.min-rate:0.05}") double minRate,
+            @Value("${employee.rate-limit.max-rate:50.0}") double maxRate,
+            @Value("${employee.rate-limit.increase:0.05}") double increase,
+            @Value("${employee.rate-limit.burst:5}") int burst,
+            @Value("${employee.rate-limit.max-wait:PT2S}") Duration maxWait,
+            @Value("${employee.rate-limit.cooldown:PT1S}") Duration cooldown,
+            MeterRegistry meterRegistry) {
+        this(initialRate, minRate, maxRate, increase, burst, maxWait, cooldown, System::nanoTime, meterRegistry);
+    }
+
+    UpstreamRateLimiter(
+            double initialRate,
+            double minRate,
+            double maxRate,
+            double increase,
+            int burst,
+            Duration maxWait,
+            Duration cooldown,
+            LongSupplier nanoClock,
+            MeterRegistry meterRegistry) {
+        this.rate = initialRate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increase = increase;
+        this.decreaseFactor = 0.5;
+        this.burst = Math.max(1, burst);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.cooldownNanos = cooldown.toNanos();
+        this.maxCooldownNanos = cooldown.multipliedBy(8).toNanos();
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.theoreticalArrival = now;
+        this.blockedUntil = now;
+        this.waits = Timer.builder("employee.upstream.rate-limit.wait")
+                .description("Time calls queued for an upstream send slot")
+                .register(meterRegistry);
+        this.shed = Counter.builder("employee.upstream.rate-limit.shed")
+                .description("Calls rejected because their send slot was further away than max-wait")
+                .register(meterRegistry);
+        this.throttled = Counter.builder("employee.upstream.throttled")
+                .description("429 responses from the mock server")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.rate-limit.rate", this, UpstreamRateLimiter::rate)
+                .description("Currently allowed upstream requests per second")
+                .baseUnit("requests/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks until the next request may be sent.
+     *
+     * @throws UpstreamRateLimitedException if that would take longer than the configured max wait
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmployeeApiException("Interrupted while waiting for upstream capacity", e);
+        }
+    }
+
+    /**
+     * Reserves the next send slot.
+     *
+     * @return nanos to wait before sending
+     * @throws UpstreamRateLimitedException if the slot is further away than the configured max wait
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        long interval = (long) (NANOS_PER_SECOND / rate);
+        long start = nextSlot(now, interval);
+        long waitNanos = start - now;
+        if (waitNanos > maxWaitNanos) {
+            shed.increment();
+            throw new UpstreamRateLimitedException(Duration.ofNanos(waitNanos));
+        }
+        theoreticalArrival = Math.max(theoreticalArrival, start) + interval;
+        waits.record(waitNanos, TimeUnit.NANOSECONDS);
+        return waitNanos;
+    }
+
+    /**
+     * @return whether a call made now would get a send slot within the max wait rather than be shed, which is what
+     *         makes retrying a 429 worthwhile
+     */
+    public synchronized boolean hasSlotWithinMaxWait() {
+        long now = nanoClock.getAsLong();
+        return nextSlot(now, (long) (NANOS_PER_SECOND / rate)) - now <= maxWaitNanos;
+    }
+
+    private long nextSlot(long now, long interval) {
+        return Math.max(now, Math.max(theoreticalArrival - (burst - 1) * interval, blockedUntil));
+    }
+
+    /**
+     * Additive increase after a request the server accepted.
+     */
+    public synchronized void onSuccess() {
+        consecutiveThrottles = 0;
+        rate = Math.min(maxRate, rate + increase);
+    }
+
+    /**
+     * Multiplicative decrease after a 429, blocking further requests until {@code retryAfter} (or the cooldown) passes.
+     *
+     * @param retryAfter the server's Retry-After, or {@code null} if it sent none
+     */
+    public synchronized void onThrottled(Duration retryAfter) {
+        consecutiveThrottles++;
+        throttled.increment();
+        rate = Math.max(minRate, rate * decreaseFactor);
+        long pause = retryAfter != null
+                ? retryAfter.toNanos()
+                : Math.min(maxCooldownNanos, cooldownNanos << Math.min(consecutiveThrottles - 1, 16));
+        long now = nanoClock.getAsLong();
+        blockedUntil = Math.max(blockedUntil, now + pause);
+        theoreticalArrival = Math.max(theoreticalArrival, blockedUntil);
+        log.warn(
+                "Mock server returned 429 - backing off for {}s, rate now {} req/s",
+                TimeUnit.NANOSECONDS.toSeconds(pause),
+                String.format("%.2f", rate));
+    }
+
+    synchronized double rate() {
+        return rate;
+    }
+
+    /**
+     * Parses a Retry-After header given either as delta-seconds or as an HTTP date.
+     *
+     * @return the delay, or {@code null} if the header is absent or malformed
+     */
+    static Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(header.trim())));
+        } catch (NumberFormatException ignored) {
+            // not delta-seconds, try HTTP date
+        }
+        try {
+            Duration delay = Duration.between(
+                    ZonedDateTime.now(), ZonedDateTime.parse(header.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
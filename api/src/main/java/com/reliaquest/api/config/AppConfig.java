@@ -1,14 +1,124 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.ToDoubleFunction;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
+    /*
+     * One pool for all calls to the mock server: connections are reused via HTTP/1.1 keep-alive, idle and expired ones
+     * are evicted in the background, and every stage (pool lease, connect, read) has a timeout so a hung upstream can't
+     * hold a request thread forever.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager upstreamConnectionManager(
+            @Value("${employee.http.max-connections:20}") int maxConnections,
+            @Value("${employee.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${employee.http.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${employee.http.read-timeout:PT10S}") Duration readTimeout,
+            @Value("${employee.http.connection-ttl:PT5M}") Duration connectionTtl) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(connectionTtl.toMillis()))
+                        .build())
+                .build();
+    }
+
+    /*
+     * Content compression is on by default in HttpClient 5, so responses the mock server gzips (server.compression)
+     * are transparently decompressed.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(
+            PoolingHttpClientConnectionManager upstreamConnectionManager,
+            @Value("${employee.http.pool-acquire-timeout:PT2S}") Duration poolAcquireTimeout,
+            @Value("${employee.http.idle-eviction:PT30S}") Duration idleEviction) {
+        return HttpClients.custom()
+                .setConnectionManager(upstreamConnectionManager)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeout.toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEviction.toMillis()))
+                .build();
+    }
+
+    /*
+     * Publishes httpcomponents.httpclient.pool.* gauges (leased, pending, available, max) for pool saturation.
+     */
+    @Bean
+    public MeterBinder upstreamConnectionPoolMetrics(PoolingHttpClientConnectionManager upstreamConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(upstreamConnectionManager, "employee-upstream");
+    }
+
+    /*
+     * Publishes employee.roster.* gauges: how many employees the cached snapshot holds, its version (which moves on
+     * every applied write and repaired drift) and how long ago it was fetched. All read 0 until the roster is loaded.
+     */
+    @Bean
+    public MeterBinder rosterMetrics(RosterCache rosterCache) {
+        return registry -> {
+            Gauge.builder("employee.roster.size", rosterCache, cache -> loaded(cache, RosterSnapshot::size))
+                    .description("Employees in the cached roster snapshot")
+                    .register(registry);
+            Gauge.builder("employee.roster.version", rosterCache, cache -> loaded(cache, RosterSnapshot::version))
+                    .description("Version of the cached roster snapshot")
+                    .register(registry);
+            Gauge.builder(
+                            "employee.roster.age",
+                            rosterCache,
+                            cache -> loaded(cache, snapshot -> Duration.between(snapshot.fetchedAt(), Instant.now())
+                                    .toSeconds()))
+                    .description("Time since the cached roster was fetched from the mock server")
+                    .baseUnit("seconds")
+                    .register(registry);
+        };
+    }
+
+    private static double loaded(RosterCache cache, ToDoubleFunction<RosterSnapshot> value) {
+        RosterSnapshot snapshot = cache.currentIfLoaded();
+        return snapshot == null ? 0 : value.applyAsDouble(snapshot);
+    }
+
+    /*
+     * Boot's RestTemplateBuilder already times every call as http.client.requests, tagged with the URI template, method
+     * and status; the interceptor adds payload sizes.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder, CloseableHttpClient upstreamHttpClient, MeterRegistry meterRegistry) {
+        return builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(upstreamHttpClient))
+                .additionalInterceptors(new UpstreamPayloadMetrics(meterRegistry))
+                .build();
     }
 }
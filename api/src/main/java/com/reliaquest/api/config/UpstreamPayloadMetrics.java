@@ -0,0 +1,123 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Records the size of every request body sent to and response body read from the mock server, as the
+ * {@code employee.upstream.request.size} and {@code employee.upstream.response.size} summaries tagged by HTTP method.
+ * <p>
+ * Responses are measured as they are read rather than buffered, so streamed reads stay streamed; the size is recorded
+ * when the response is closed and counts decoded bytes, i.e. after gzip.
+ * </p>
+ */
+class UpstreamPayloadMetrics implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    UpstreamPayloadMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String method = request.getMethod().name();
+        summary("employee.upstream.request.size", method).record(body.length);
+        ClientHttpResponse response = execution.execute(request, body);
+        return new CountingResponse(response, summary("employee.upstream.response.size", method));
+    }
+
+    private DistributionSummary summary(String name, String method) {
+        return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+
+    private static final class CountingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final DistributionSummary sizes;
+        private CountingStream body;
+
+        CountingResponse(ClientHttpResponse delegate, DistributionSummary sizes) {
+            this.delegate = delegate;
+            this.sizes = sizes;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            if (body != null) {
+                sizes.record(body.count);
+            }
+            delegate.close();
+        }
+    }
+
+    private static final class CountingStream extends FilterInputStream {
+
+        private long count;
+
+        CountingStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -1,18 +1,40 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.model.BatchResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryStats;
 import com.reliaquest.api.service.IEmployeeService;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/v2/employee")
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
+    private static final int MAX_BATCH_SIZE = 100_000;
+    static final String DEFAULT_AGE_BAND_WIDTH = "10";
+    static final String DEFAULT_PERCENTILES = "50,90,99";
+    static final String DEFAULT_HISTOGRAM_BUCKETS = "10";
+    static final String DEFAULT_TOP_K = "10";
+    private static final int MAX_TOP_K = 10_000;
+    private static final int MAX_PERCENTILES = 100;
+    private static final int MAX_HISTOGRAM_BUCKETS = 1000;
+
     private final IEmployeeService employeeService;
 
     @Autowired
@@ -54,4 +76,101 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     public ResponseEntity<String> deleteEmployeeById(String id) {
         return ResponseEntity.ok(employeeService.deleteEmployeeById(id));
     }
+
+    /*
+     * Batch variants of create and delete, outside IEmployeeController's contract. Each returns one result per item,
+     * in order, so a single bad item doesn't fail the batch.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchResult<Employee>>> createEmployees(
+            @RequestBody List<CreateEmployeeInput> employeeInputs) {
+        checkBatchSize(employeeInputs);
+        return ResponseEntity.ok(employeeService.createEmployees(employeeInputs));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<BatchResult<String>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        checkBatchSize(ids);
+        return ResponseEntity.ok(employeeService.deleteEmployeesById(ids));
+    }
+
+    /*
+     * Top earners for any k, alongside IEmployeeController's fixed top ten.
+     */
+    @GetMapping("/topHighestEarningEmployeeNames")
+    public ResponseEntity<List<String>> getTopHighestEarningEmployeeNames(
+            @RequestParam(defaultValue = DEFAULT_TOP_K) int k) {
+        checkTopK(k);
+        return ResponseEntity.ok(employeeService.getTopHighestEarningEmployeeNames(k));
+    }
+
+    /*
+     * Salary aggregates, also outside IEmployeeController's contract: a few KB of stats instead of the whole roster.
+     */
+    @GetMapping("/salaryStatsByTitle")
+    public ResponseEntity<List<SalaryStats>> getSalaryStatsByTitle() {
+        return ResponseEntity.ok(employeeService.getSalaryStatsByTitle());
+    }
+
+    @GetMapping("/salaryStatsByAgeBand")
+    public ResponseEntity<List<SalaryStats>> getSalaryStatsByAgeBand(
+            @RequestParam(defaultValue = DEFAULT_AGE_BAND_WIDTH) int width) {
+        checkAgeBandWidth(width);
+        return ResponseEntity.ok(employeeService.getSalaryStatsByAgeBand(width));
+    }
+
+    /*
+     * Salary distribution: arbitrary percentiles, and a histogram of equally wide buckets.
+     */
+    @GetMapping("/salaryPercentiles")
+    public ResponseEntity<List<SalaryPercentile>> getSalaryPercentiles(
+            @RequestParam(name = "p", defaultValue = DEFAULT_PERCENTILES) List<Double> percentiles) {
+        checkPercentiles(percentiles);
+        return ResponseEntity.ok(employeeService.getSalaryPercentiles(percentiles));
+    }
+
+    @GetMapping("/salaryHistogram")
+    public ResponseEntity<List<SalaryHistogramBucket>> getSalaryHistogram(
+            @RequestParam(defaultValue = DEFAULT_HISTOGRAM_BUCKETS) int buckets) {
+        checkHistogramBuckets(buckets);
+        return ResponseEntity.ok(employeeService.getSalaryHistogram(buckets));
+    }
+
+    static void checkTopK(int k) {
+        if (k < 1 || k > MAX_TOP_K) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "k must be between 1 and " + MAX_TOP_K);
+        }
+    }
+
+    static void checkPercentiles(List<Double> percentiles) {
+        if (percentiles.isEmpty() || percentiles.size() > MAX_PERCENTILES) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "between 1 and " + MAX_PERCENTILES + " percentiles must be given");
+        }
+        for (Double p : percentiles) {
+            if (p == null || !(p >= 0 && p <= 100)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "percentiles must be between 0 and 100");
+            }
+        }
+    }
+
+    static void checkHistogramBuckets(int buckets) {
+        if (buckets < 1 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "buckets must be between 1 and " + MAX_HISTOGRAM_BUCKETS);
+        }
+    }
+
+    static void checkAgeBandWidth(int width) {
+        if (width < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "width must be at least 1");
+        }
+    }
+
+    static void checkBatchSize(List<?> items) {
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "batch must not hold more than " + MAX_BATCH_SIZE + " items");
+        }
+    }
 }
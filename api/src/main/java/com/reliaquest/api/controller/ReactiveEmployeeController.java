@@ -0,0 +1,126 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.BatchResult;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryStats;
+import com.reliaquest.api.service.IReactiveEmployeeService;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of {@link EmployeeController}, active in {@code employee.api.mode=reactive}.
+ * <p>
+ * Exposes exactly the URLs, inputs and outputs of {@link IEmployeeController}, but returns {@link Mono}s, which Spring
+ * MVC completes through servlet async processing: the Tomcat thread is released as soon as the handler returns, so
+ * thousands of requests can be in flight against a slow or rate-limited mock server with a small thread count. It
+ * can't implement {@link IEmployeeController} itself because that contract fixes synchronous return types. The top-k,
+ * batch, salary aggregate and distribution endpoints of {@link EmployeeController} are served here too.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v2/employee")
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "reactive")
+public class ReactiveEmployeeController {
+
+    private final IReactiveEmployeeService employeeService;
+
+    @Autowired
+    public ReactiveEmployeeController(IReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return employeeService.getAllEmployees().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        return employeeService.getEmployeesByNameSearch(searchString).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return employeeService.getEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalary().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopHighestEarningEmployeeNames(
+            @RequestParam(defaultValue = EmployeeController.DEFAULT_TOP_K) int k) {
+        EmployeeController.checkTopK(k);
+        return employeeService.getTopHighestEarningEmployeeNames(k).map(ResponseEntity::ok);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody CreateEmployeeInput employeeInput) {
+        return employeeService.createEmployee(employeeInput).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return employeeService.deleteEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<BatchResult<Employee>>>> createEmployees(
+            @RequestBody List<CreateEmployeeInput> employeeInputs) {
+        EmployeeController.checkBatchSize(employeeInputs);
+        return employeeService.createEmployees(employeeInputs).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/batch")
+    public Mono<ResponseEntity<List<BatchResult<String>>>> deleteEmployeesById(@RequestBody List<String> ids) {
+        EmployeeController.checkBatchSize(ids);
+        return employeeService.deleteEmployeesById(ids).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/salaryStatsByTitle")
+    public Mono<ResponseEntity<List<SalaryStats>>> getSalaryStatsByTitle() {
+        return employeeService.getSalaryStatsByTitle().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/salaryStatsByAgeBand")
+    public Mono<ResponseEntity<List<SalaryStats>>> getSalaryStatsByAgeBand(
+            @RequestParam(defaultValue = EmployeeController.DEFAULT_AGE_BAND_WIDTH) int width) {
+        EmployeeController.checkAgeBandWidth(width);
+        return employeeService.getSalaryStatsByAgeBand(width).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/salaryPercentiles")
+    public Mono<ResponseEntity<List<SalaryPercentile>>> getSalaryPercentiles(
+            @RequestParam(name = "p", defaultValue = EmployeeController.DEFAULT_PERCENTILES) List<Double> percentiles) {
+        EmployeeController.checkPercentiles(percentiles);
+        return employeeService.getSalaryPercentiles(percentiles).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/salaryHistogram")
+    public Mono<ResponseEntity<List<SalaryHistogramBucket>>> getSalaryHistogram(
+            @RequestParam(defaultValue = EmployeeController.DEFAULT_HISTOGRAM_BUCKETS) int buckets) {
+        EmployeeController.checkHistogramBuckets(buckets);
+        return employeeService.getSalaryHistogram(buckets).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+/**
+ * Outcome of one item of a batch request. Exactly one of {@code data} (the item was applied) or {@code error} (it was
+ * rejected, and why) is set, and results are returned in the order the items were sent.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchResult<T> {
+    private T data;
+    private String error;
+
+    public static <T> BatchResult<T> applied(T data) {
+        return new BatchResult<>(data, null);
+    }
+
+    public static <T> BatchResult<T> rejected(String error) {
+        return new BatchResult<>(null, error);
+    }
+}
@@ -1,6 +1,8 @@
 package com.reliaquest.api.model;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.reliaquest.common.json.InterningStringDeserializer;
 import java.util.UUID;
 import lombok.*;
 
@@ -20,6 +22,7 @@ public class Employee {
     private Integer age;
 
     @JsonAlias("employee_title")
+    @JsonDeserialize(using = InterningStringDeserializer.class)
     private String title;
 
     @JsonAlias("employee_email")
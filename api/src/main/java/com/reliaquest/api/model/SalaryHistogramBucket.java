@@ -0,0 +1,15 @@
+package com.reliaquest.api.model;
+
+import lombok.*;
+
+/**
+ * Number of employees whose salary lies between {@code from} and {@code to}, both inclusive.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryHistogramBucket {
+    private int from;
+    private int to;
+    private long count;
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.model;
+
+import lombok.*;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryPercentile {
+    private double percentile;
+    private int salary;
+}
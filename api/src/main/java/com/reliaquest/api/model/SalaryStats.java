@@ -0,0 +1,21 @@
+package com.reliaquest.api.model;
+
+import lombok.*;
+
+/**
+ * Salary distribution of one group of employees, such as everyone with the same title or in the same age band.
+ * Percentiles are exact, using the nearest-rank method, so each is a salary someone in the group actually earns.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryStats {
+    private String group;
+    private long count;
+    private int min;
+    private int max;
+    private double mean;
+    private int p50;
+    private int p90;
+    private int p99;
+}
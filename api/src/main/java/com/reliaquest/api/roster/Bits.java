@@ -0,0 +1,61 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+
+/**
+ * Bitset helpers over plain {@code long[]} words, for per-row flags in the roster columns and snapshots. Bits past
+ * the end of the array read as clear, so a set only needs to be as long as its highest set bit.
+ * <p>
+ * Sets that are copied on every write, such as a snapshot's tombstones, are split into chunks of 65,536 bits
+ * instead, so that setting a bit copies one chunk and the array of chunk references, not the whole set.
+ * </p>
+ */
+final class Bits {
+
+    private static final int CHUNK_BITS = 1 << 16;
+    private static final int CHUNK_SHIFT = 16;
+    private static final long[] NO_WORDS = new long[0];
+
+    private Bits() {}
+
+    static boolean get(long[] words, int bit) {
+        int word = bit >>> 6;
+        return word < words.length && (words[word] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Sets the bit in place, growing the array if needed.
+     *
+     * @return the array holding the bit, which is a new one if it had to grow
+     */
+    static long[] set(long[] words, int bit) {
+        int word = bit >>> 6;
+        long[] target = word < words.length ? words : Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        target[word] |= 1L << bit;
+        return target;
+    }
+
+    /**
+     * @return a copy of the words with the bit set, leaving the original untouched
+     */
+    static long[] with(long[] words, int bit) {
+        long[] copy = Arrays.copyOf(words, Math.max(words.length, (bit >>> 6) + 1));
+        copy[bit >>> 6] |= 1L << bit;
+        return copy;
+    }
+
+    static boolean get(long[][] chunks, int bit) {
+        int chunk = bit >>> CHUNK_SHIFT;
+        return chunk < chunks.length && chunks[chunk] != null && get(chunks[chunk], bit & (CHUNK_BITS - 1));
+    }
+
+    /**
+     * @return a copy of the chunked set with the bit set, sharing every chunk but the bit's own with the original
+     */
+    static long[][] with(long[][] chunks, int bit) {
+        int chunk = bit >>> CHUNK_SHIFT;
+        long[][] copy = Arrays.copyOf(chunks, Math.max(chunks.length, chunk + 1));
+        copy[chunk] = with(copy[chunk] == null ? NO_WORDS : copy[chunk], bit & (CHUNK_BITS - 1));
+        return copy;
+    }
+}
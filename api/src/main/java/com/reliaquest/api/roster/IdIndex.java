@@ -0,0 +1,103 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable lookup from employee id to row for a {@link RosterSnapshot}.
+ * <p>
+ * The index holds row numbers only, never ids: a candidate row is confirmed by the caller against the row's actual id,
+ * so the index costs four bytes a row and no boxing. Rows the index was built from sit in an open-addressing table
+ * probed by the id's hash, which every snapshot over the same columns shares. Rows added after the build go into one
+ * of a fixed number of small buckets by hash, so adding a row copies that bucket and the bucket table, not the whole
+ * index. Deleted rows are left in place and rejected by the caller's check, so a delete doesn't touch the index.
+ * </p>
+ */
+final class IdIndex {
+
+    private static final int EMPTY = -1;
+    private static final int ADDED_BUCKETS = 256;
+    private static final int[] NO_ROWS = new int[0];
+
+    // built rows by id hash, EMPTY where unused; the length is a power of two
+    private final int[] slots;
+    // rows added since the build, in ascending order within each bucket
+    private final int[][] added;
+
+    private IdIndex(int[] slots, int[][] added) {
+        this.slots = slots;
+        this.added = added;
+    }
+
+    static IdIndex build(RosterColumns columns) {
+        // at most two thirds full, so probe sequences stay short
+        int[] slots = new int[Integer.highestOneBit(Math.max(1, columns.size() + columns.size() / 2)) << 1];
+        Arrays.fill(slots, EMPTY);
+        int mask = slots.length - 1;
+        for (int row = 0; row < columns.size(); row++) {
+            UUID id = columns.id(row);
+            if (id == null) {
+                continue;
+            }
+            int slot = hash(id) & mask;
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = row;
+        }
+        int[][] added = new int[ADDED_BUCKETS][];
+        Arrays.fill(added, NO_ROWS);
+        return new IdIndex(slots, added);
+    }
+
+    /**
+     * Returns a copy of this index with {@code row} indexed under {@code id}. Rows must be added in ascending order,
+     * after every row the index was built from.
+     */
+    IdIndex with(int row, UUID id) {
+        if (id == null) {
+            return this;
+        }
+        int bucket = bucketOf(id);
+        int[] rows = Arrays.copyOf(added[bucket], added[bucket].length + 1);
+        rows[rows.length - 1] = row;
+        int[][] next = added.clone();
+        next[bucket] = rows;
+        return new IdIndex(slots, next);
+    }
+
+    /**
+     * @param matches whether a candidate row is live and holds the id
+     * @return the first row with the given id that {@code matches}, or -1 if there is none
+     */
+    int rowOf(UUID id, IntPredicate matches) {
+        if (id == null) {
+            return -1;
+        }
+        int mask = slots.length - 1;
+        // rows were inserted in order, so rows sharing an id are met earliest first
+        for (int slot = hash(id) & mask; slots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (matches.test(slots[slot])) {
+                return slots[slot];
+            }
+        }
+        for (int row : added[bucketOf(id)]) {
+            if (matches.test(row)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private static int bucketOf(UUID id) {
+        // the high bits, where the table probes with the low ones
+        return hash(id) >>> 24;
+    }
+
+    private static int hash(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        bits *= 0x9E3779B97F4A7C15L;
+        return (int) (bits >>> 32);
+    }
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable trigram index over the lower-cased employee names of a {@link RosterSnapshot}.
+ * <p>
+ * Names are normalized once when a row is indexed, and every trigram (three consecutive chars) of a name maps to the
+ * ascending list of rows containing it. A search for a fragment of three or more chars only verifies the rows in the
+ * shortest posting list among the fragment's trigrams, instead of lower-casing and scanning every name per request.
+ * Shorter fragments match most of the roster anyway, so they fall back to a scan. The index holds no names itself:
+ * candidates are verified by the snapshot against its name column.
+ * </p>
+ * <p>
+ * The postings built from the columns are never copied. Rows added after the build go into a second set of postings
+ * that only holds them, split by trigram into a fixed number of small tables, so adding a row copies just the tables
+ * its trigrams fall in and their posting lists there. Deleted rows are left in place: the snapshot verifies every
+ * candidate, tombstoned rows included, and drops the index for a fresh one when it compacts.
+ * </p>
+ */
+final class NameIndex {
+
+    private static final int[] NO_ROWS = new int[0];
+    private static final int ADDED_TABLES = 256;
+
+    private final Map<Long, int[]> postings;
+    // postings of the rows added since the build, all after the built ones, split by trigram
+    private final Map<Long, int[]>[] added;
+
+    private NameIndex(Map<Long, int[]> postings, Map<Long, int[]>[] added) {
+        this.postings = postings;
+        this.added = added;
+    }
+
+    static NameIndex build(RosterColumns columns) {
+        Map<Long, Postings> building = new HashMap<>();
+        for (int row = 0; row < columns.size(); row++) {
+            String name = columns.name(row);
+            if (name == null) {
+                continue;
+            }
+            name = normalize(name);
+            for (int i = 0; i + 3 <= name.length(); i++) {
+                building.computeIfAbsent(trigram(name, i), ignored -> new Postings()).add(row);
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(building.size() * 2);
+        building.forEach((trigram, list) -> postings.put(trigram, Arrays.copyOf(list.rows, list.size)));
+        @SuppressWarnings("unchecked")
+        Map<Long, int[]>[] added = new Map[ADDED_TABLES];
+        Arrays.fill(added, Map.of());
+        return new NameIndex(postings, added);
+    }
+
+    /**
+     * Normalizes a name or search fragment the same way for indexing and querying.
+     */
+    static String normalize(String value) {
+        return value.toLowerCase().trim();
+    }
+
+    /**
+     * Returns a copy of this index with {@code row} indexed under {@code name}. Rows must be added in ascending order,
+     * after every row the index was built from.
+     */
+    NameIndex with(int row, String name) {
+        if (name == null) {
+            return this;
+        }
+        String value = normalize(name);
+        Map<Long, int[]>[] next = added.clone();
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            long trigram = trigram(value, i);
+            int table = tableOf(trigram);
+            int[] list = next[table].getOrDefault(trigram, NO_ROWS);
+            if (list.length > 0 && list[list.length - 1] == row) {
+                continue;
+            }
+            if (next[table] == added[table]) {
+                next[table] = new HashMap<>(added[table]);
+            }
+            int[] grown = Arrays.copyOf(list, list.length + 1);
+            grown[list.length] = row;
+            next[table].put(trigram, grown);
+        }
+        return new NameIndex(postings, next);
+    }
+
+    /**
+     * Finds rows whose normalized name contains the (already normalized) fragment.
+     *
+     * @param rows    number of rows in the snapshot, scanned in full for fragments too short to have a trigram
+     * @param matches whether a candidate row's name really contains the fragment
+     * @return matching rows in ascending order
+     */
+    int[] search(String fragment, int rows, IntPredicate matches) {
+        if (fragment.length() < 3) {
+            return scan(rows, null, NO_ROWS, matches);
+        }
+        int[] built = null;
+        int[] since = null;
+        for (int i = 0; i + 3 <= fragment.length(); i++) {
+            long trigram = trigram(fragment, i);
+            int[] list = postings.getOrDefault(trigram, NO_ROWS);
+            int[] addedList = added[tableOf(trigram)].getOrDefault(trigram, NO_ROWS);
+            if (list.length + addedList.length == 0) {
+                return NO_ROWS;
+            }
+            if (built == null || list.length + addedList.length < built.length + since.length) {
+                built = list;
+                since = addedList;
+            }
+        }
+        return scan(built.length, built, since, matches);
+    }
+
+    /**
+     * Checks the first {@code n} rows, or the given candidates followed by the {@code since} ones.
+     */
+    private static int[] scan(int n, int[] candidates, int[] since, IntPredicate matches) {
+        int total = n + since.length;
+        int[] found = new int[Math.min(total, 16)];
+        int size = 0;
+        for (int i = 0; i < total; i++) {
+            int row = i >= n ? since[i - n] : candidates == null ? i : candidates[i];
+            if (matches.test(row)) {
+                if (size == found.length) {
+                    found = Arrays.copyOf(found, size * 2);
+                }
+                found[size++] = row;
+            }
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    private static int tableOf(long trigram) {
+        return (int) ((trigram * 0x9E3779B97F4A7C15L) >>> 56);
+    }
+
+    private static long trigram(String value, int at) {
+        return ((long) value.charAt(at) << 32) | ((long) value.charAt(at + 1) << 16) | value.charAt(at + 2);
+    }
+
+    /**
+     * Growable posting list used while building an index.
+     */
+    private static final class Postings {
+        private int[] rows = new int[4];
+        private int size;
+
+        void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+    }
+}
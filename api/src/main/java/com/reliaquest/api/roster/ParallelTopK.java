@@ -0,0 +1,157 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Top-K selection by salary, split across the common {@link ForkJoinPool}, for rosters that have no
+ * {@link SalaryIndex}.
+ * <p>
+ * The rows are halved recursively into a few slices per pool worker. Each slice keeps a bounded min-heap of at most
+ * {@code k} packed salary/row keys (the same keys as {@link SalaryIndex}, so salaries are never boxed and ties rank the
+ * earlier row first), and sibling heaps are merged as the slices join by offering the smaller heap to the larger. Only
+ * the final {@code k} keys are sorted. Selecting the top thousand of five million rows is then O(n log k / cores) plus
+ * a merge of a few heaps, instead of a sequential scan or a full sort. Rosters of no more than one slice are scanned on
+ * the calling thread, where forking would only add overhead.
+ * </p>
+ */
+final class ParallelTopK {
+
+    // slices are never split below this many rows
+    private static final int MIN_SLICE_ROWS = 1 << 16;
+    // a few slices per worker so uneven ones still balance out
+    private static final int SLICES_PER_WORKER = 4;
+    private static final int[] NO_ROWS = new int[0];
+
+    private ParallelTopK() {}
+
+    /**
+     * @param rows     number of rows to select from
+     * @param salaryOf the row's salary, or {@link RosterColumns#NULL_INT} to leave it out
+     * @param k        maximum number of rows to return
+     * @return up to {@code k} rows, highest salary first
+     */
+    static int[] highestPaidRows(int rows, IntUnaryOperator salaryOf, int k) {
+        if (k <= 0 || rows == 0) {
+            return NO_ROWS;
+        }
+        // every slice admits its first k rows and then ever fewer, so a heap costs about k * ln(slice / k) inserts:
+        // fewer, larger slices keep that small next to the scan itself
+        int sliceRows = Math.max(MIN_SLICE_ROWS, rows / (SLICES_PER_WORKER * ForkJoinPool.getCommonPoolParallelism()));
+        Slice all = new Slice(0, rows, sliceRows, salaryOf, k);
+        long[] keys = (rows <= sliceRows ? all.compute() : ForkJoinPool.commonPool().invoke(all)).keys();
+        Arrays.sort(keys);
+        int[] result = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = SalaryIndex.rowOf(keys[keys.length - 1 - i]);
+        }
+        return result;
+    }
+
+    private static final class Slice extends RecursiveTask<Heap> {
+        private final int from;
+        private final int to;
+        private final int sliceRows;
+        private final IntUnaryOperator salaryOf;
+        private final int k;
+
+        private Slice(int from, int to, int sliceRows, IntUnaryOperator salaryOf, int k) {
+            this.from = from;
+            this.to = to;
+            this.sliceRows = sliceRows;
+            this.salaryOf = salaryOf;
+            this.k = k;
+        }
+
+        @Override
+        protected Heap compute() {
+            if (to - from <= sliceRows) {
+                Heap heap = new Heap(k, Math.min(k, to - from));
+                for (int row = from; row < to; row++) {
+                    int salary = salaryOf.applyAsInt(row);
+                    if (salary != RosterColumns.NULL_INT) {
+                        heap.offer(SalaryIndex.key(salary, row));
+                    }
+                }
+                return heap;
+            }
+            int mid = (from + to) >>> 1;
+            Slice left = new Slice(from, mid, sliceRows, salaryOf, k);
+            left.fork();
+            Heap right = new Slice(mid, to, sliceRows, salaryOf, k).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Min-heap of the largest keys offered, holding at most {@code limit} of them.
+     */
+    private static final class Heap {
+        private final int limit;
+        private long[] keys;
+        private int size;
+
+        private Heap(int limit, int capacity) {
+            this.limit = limit;
+            this.keys = new long[Math.max(1, capacity)];
+        }
+
+        void offer(long key) {
+            if (size < limit) {
+                if (size == keys.length) {
+                    keys = Arrays.copyOf(keys, (int) Math.min(limit, 2L * size));
+                }
+                keys[size] = key;
+                siftUp(size++);
+            } else if (key > keys[0]) {
+                keys[0] = key;
+                siftDown(0);
+            }
+        }
+
+        Heap merge(Heap other) {
+            Heap target = size >= other.size ? this : other;
+            Heap source = target == this ? other : this;
+            for (int i = 0; i < source.size; i++) {
+                target.offer(source.keys[i]);
+            }
+            return target;
+        }
+
+        long[] keys() {
+            return Arrays.copyOf(keys, size);
+        }
+
+        private void siftUp(int i) {
+            long key = keys[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[i] = keys[parent];
+                i = parent;
+            }
+            keys[i] = key;
+        }
+
+        private void siftDown(int i) {
+            long key = keys[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[i] = keys[child];
+                i = child;
+            }
+            keys[i] = key;
+        }
+    }
+}
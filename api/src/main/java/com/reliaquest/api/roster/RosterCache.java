@@ -0,0 +1,318 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local, versioned replica of the employee roster.
+ * <p>
+ * The mock server only allows a handful of requests before locking us out, so read endpoints are served from an
+ * immutable {@link RosterSnapshot} instead of fetching the whole list per request. Successful creates and deletes are
+ * applied to the replica write-through ({@link #applyCreated(Employee)}, {@link #applyDeleted(UUID)}), so a write
+ * followed by a read never costs an extra upstream request. A write that lands while the initial load is in flight may
+ * have missed the fetch, so it is held back and replayed onto the loaded roster before that is published.
+ * </p>
+ * <p>
+ * On a fixed delay ({@code employee.roster.refresh-interval}) the replica is reconciled against the mock server and any
+ * drift is repaired. If reconciliation fails the current snapshot keeps being served (stale-while-revalidate) and the
+ * next tick tries again.
+ * </p>
+ * <p>
+ * Setting {@code employee.roster.cache-enabled} to {@code false} turns this into a read-through: every call to
+ * {@link #current()} fetches a fresh, unindexed roster and writes are not tracked.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RosterCache {
+
+    private final EmployeeClient employeeClient;
+    private final boolean enabled;
+    private final AtomicReference<RosterSnapshot> snapshot = new AtomicReference<>();
+    // not a monitor: the initial load is a blocking upstream call and must not pin a virtual thread's carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // writes that landed while an initial load was in flight, in order; guarded by itself, as is loadsInFlight, and
+    // only ever held briefly, never across an upstream call
+    private final List<UnaryOperator<RosterSnapshot>> pending = new ArrayList<>();
+    private int loadsInFlight;
+
+    public RosterCache(
+            EmployeeClient employeeClient, @Value("${employee.roster.cache-enabled:true}") boolean enabled) {
+        this.employeeClient = employeeClient;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the current snapshot. The very first call blocks while the roster is loaded; concurrent callers wait for
+     * that single load instead of each fetching it.
+     *
+     * @return the current roster snapshot
+     */
+    public RosterSnapshot current() {
+        if (!enabled) {
+            return RosterSnapshot.unindexed(employeeClient.getAllEmployees());
+        }
+        RosterSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        loadLock.lock();
+        try {
+            current = snapshot.get();
+            if (current == null) {
+                try (InitialLoad load = beginLoad()) {
+                    current = load.install(employeeClient.getAllEmployees());
+                }
+            }
+            return current;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the cached snapshot without ever blocking, or {@code null} if it hasn't been loaded yet (or caching is
+     * disabled).
+     */
+    public RosterSnapshot currentIfLoaded() {
+        return enabled ? snapshot.get() : null;
+    }
+
+    /**
+     * Starts an initial load, for callers that fetch the roster themselves because they can't block in
+     * {@link #current()}. Call it before the fetch starts: from then on, writes are held back until the fetched roster
+     * is {@link InitialLoad#install(List) installed}, and the load must be closed when it is done or has failed.
+     */
+    public InitialLoad beginLoad() {
+        synchronized (pending) {
+            loadsInFlight++;
+        }
+        return new InitialLoad();
+    }
+
+    /**
+     * Looks up an employee's name in the replica, for the v1 DELETE, which takes a name rather than an id. Never loads
+     * the roster: a delete against a cold cache costs one lookup by id upstream, not a roster fetch.
+     *
+     * @return the name, or {@code null} if the replica isn't loaded, or doesn't hold a live employee with that id
+     */
+    public String knownName(String id) {
+        RosterSnapshot current = currentIfLoaded();
+        if (current == null || id == null) {
+            return null;
+        }
+        try {
+            return current.nameOf(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Applies an employee the mock server just created. Before the replica is loaded this is a no-op, as the initial
+     * load will fetch the employee, unless a load is already in flight and may have missed it.
+     */
+    public void applyCreated(Employee created) {
+        if (!enabled || created == null || created.getId() == null) {
+            return;
+        }
+        RosterSnapshot next = apply(s -> s.withCreated(created));
+        if (next != null) {
+            log.debug("Applied create of {} to roster v{}", created.getId(), next.version());
+        }
+    }
+
+    /**
+     * Removes an employee the mock server just deleted. Before the replica is loaded this is held back like
+     * {@link #applyCreated(Employee)}.
+     */
+    public void applyDeleted(UUID id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        RosterSnapshot next = apply(s -> s.withDeleted(id));
+        if (next != null) {
+            log.debug("Applied delete of {} to roster v{}", id, next.version());
+        }
+    }
+
+    /**
+     * Applies the outcome of a batch request as a single new version. Before the replica is loaded this is held back
+     * like {@link #applyCreated(Employee)}.
+     */
+    public void applyBatch(List<Employee> created, List<UUID> deleted) {
+        if (!enabled || (created.isEmpty() && deleted.isEmpty())) {
+            return;
+        }
+        RosterSnapshot next = apply(s -> s.withChanges(created, deleted));
+        if (next != null) {
+            log.debug(
+                    "Applied batch of {} creates and {} deletes to roster v{}",
+                    created.size(),
+                    deleted.size(),
+                    next.version());
+        }
+    }
+
+    /**
+     * Reconciles the replica against the mock server. When the upstream roster differs from ours the upstream copy is
+     * published as a new version. If a local write landed while we were fetching, the fetched roster may predate it, so
+     * the reconciliation is skipped and retried on the next tick. Failures are logged and the current snapshot stays in
+     * place.
+     */
+    @Scheduled(
+            fixedDelayString = "${employee.roster.refresh-interval:PT30S}",
+            initialDelayString = "${employee.roster.refresh-interval:PT30S}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        RosterSnapshot base = snapshot.get();
+        try {
+            if (base == null) {
+                try (InitialLoad load = beginLoad()) {
+                    load.install(employeeClient.getAllEmployees());
+                }
+                return;
+            }
+            List<Employee> upstream = employeeClient.getAllEmployees();
+            int drift = drift(base.employees(), upstream);
+            if (drift == 0) {
+                log.debug("Roster v{} is in sync with upstream ({} employees)", base.version(), base.size());
+                return;
+            }
+            log.info("Roster v{} drifted from upstream by {} employees - repairing", base.version(), drift);
+            RosterSnapshot fresh = RosterSnapshot.of(base.version() + 1, upstream);
+            if (snapshot.compareAndSet(base, fresh)) {
+                log.debug("Reconciled roster to v{} with {} employees", fresh.version(), fresh.size());
+            } else {
+                log.debug("Roster changed during reconciliation - retrying on next refresh");
+            }
+        } catch (Exception e) {
+            if (base == null) {
+                log.warn("Roster refresh failed and no snapshot is cached yet", e);
+            } else {
+                log.warn(
+                        "Roster refresh failed - still serving v{} from {} ({} employees)",
+                        base.version(),
+                        base.fetchedAt(),
+                        base.size(),
+                        e);
+            }
+        }
+    }
+
+    /**
+     * Applies a write to the current snapshot, or holds it back for the loads in flight if there is none yet.
+     *
+     * @return the snapshot the write produced, or {@code null} if it wasn't applied yet
+     */
+    private RosterSnapshot apply(UnaryOperator<RosterSnapshot> change) {
+        RosterSnapshot next = snapshot.updateAndGet(s -> s == null ? null : change.apply(s));
+        if (next != null) {
+            return next;
+        }
+        // loads publish under the same lock, so the write either sees their snapshot or is in their replay
+        synchronized (pending) {
+            next = snapshot.updateAndGet(s -> s == null ? null : change.apply(s));
+            if (next == null && loadsInFlight > 0) {
+                pending.add(change);
+            }
+            return next;
+        }
+    }
+
+    /**
+     * An initial load in flight; see {@link #beginLoad()}.
+     */
+    public final class InitialLoad implements AutoCloseable {
+
+        private boolean closed;
+
+        private InitialLoad() {}
+
+        /**
+         * Publishes the fetched roster as the initial snapshot, with the writes held back during the fetch replayed
+         * onto it. Writes that completed before the fetch started are already in the roster, and replaying them is
+         * harmless: a create replaces the employee with the same id and a delete of an absent id changes nothing. If
+         * another load published first, its snapshot wins.
+         *
+         * @return the snapshot to serve from
+         */
+        public RosterSnapshot install(List<Employee> employees) {
+            if (!enabled) {
+                return RosterSnapshot.unindexed(employees);
+            }
+            // built before taking the lock, so writes aren't held up by indexing
+            RosterSnapshot loaded = RosterSnapshot.of(1, employees);
+            synchronized (pending) {
+                RosterSnapshot current = snapshot.get();
+                if (current != null) {
+                    return current;
+                }
+                for (UnaryOperator<RosterSnapshot> change : pending) {
+                    loaded = change.apply(loaded);
+                }
+                if (!pending.isEmpty()) {
+                    log.debug("Replayed {} writes made during the initial load", pending.size());
+                }
+                pending.clear();
+                snapshot.set(loaded);
+            }
+            log.info("Loaded roster snapshot v{} with {} employees", loaded.version(), loaded.size());
+            return loaded;
+        }
+
+        /**
+         * Ends the load. Once no load is in flight, writes still held back are dropped: the roster was never loaded,
+         * and the next load will fetch them.
+         */
+        @Override
+        public void close() {
+            synchronized (pending) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                if (--loadsInFlight == 0) {
+                    pending.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts employees that are missing, extra or different between the two rosters.
+     */
+    private static int drift(List<Employee> local, List<Employee> upstream) {
+        Map<UUID, Employee> byId = new HashMap<>(local.size() * 2);
+        for (Employee e : local) {
+            byId.put(e.getId(), e);
+        }
+        int drift = 0;
+        for (Employee e : upstream) {
+            Employee mine = byId.remove(e.getId());
+            if (!Objects.equals(mine, e)) {
+                drift++;
+            }
+        }
+        return drift + byId.size();
+    }
+}
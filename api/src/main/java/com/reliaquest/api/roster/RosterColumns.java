@@ -0,0 +1,226 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable, column-oriented copy of a roster: one primitive array per field instead of one {@link Employee} object
+ * per row.
+ * <p>
+ * Ids are packed as pairs of {@code long}s, salaries and ages are {@code int[]}s, titles are dictionary-encoded (a
+ * roster has far fewer distinct titles than employees, so grouping by title is an {@code int} comparison), and names
+ * live in a shared UTF-8 arena ({@link Utf8Column}). Emails are split at the {@code @}: the local part goes to its own
+ * arena and the domain, which is the same for nearly everyone, is dictionary-encoded like titles. That is roughly 70
+ * bytes per employee against a few hundred for the object graph, and a handful of large arrays for the garbage
+ * collector to trace instead of millions of small objects. Queries read the columns directly; an {@link Employee} is
+ * only materialized for a row that is actually returned.
+ * </p>
+ * <p>
+ * A missing salary or age is stored as {@link #NULL_INT} and a missing id as the nil UUID, neither of which occur in
+ * the mock server's data.
+ * </p>
+ */
+final class RosterColumns {
+
+    static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NO_CODE = -1;
+
+    private final int size;
+    private final long[] ids;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final Utf8Column names;
+    private final Utf8Column emailLocalParts;
+    private final int[] emailDomainCodes;
+    private final String[] emailDomains;
+
+    private RosterColumns(
+            int size,
+            long[] ids,
+            int[] salaries,
+            int[] ages,
+            int[] titleCodes,
+            String[] titles,
+            Utf8Column names,
+            Utf8Column emailLocalParts,
+            int[] emailDomainCodes,
+            String[] emailDomains) {
+        this.size = size;
+        this.ids = ids;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+        this.names = names;
+        this.emailLocalParts = emailLocalParts;
+        this.emailDomainCodes = emailDomainCodes;
+        this.emailDomains = emailDomains;
+    }
+
+    static RosterColumns of(List<Employee> employees) {
+        Builder builder = new Builder(employees.size());
+        employees.forEach(builder::add);
+        return builder.build();
+    }
+
+    int size() {
+        return size;
+    }
+
+    Employee employee(int row) {
+        return new Employee(id(row), name(row), boxed(salaries[row]), boxed(ages[row]), title(row), email(row));
+    }
+
+    UUID id(int row) {
+        long most = ids[2 * row];
+        long least = ids[2 * row + 1];
+        return most == 0 && least == 0 ? null : new UUID(most, least);
+    }
+
+    boolean hasId(int row, UUID id) {
+        return ids[2 * row] == id.getMostSignificantBits() && ids[2 * row + 1] == id.getLeastSignificantBits();
+    }
+
+    /**
+     * @return the salary, or {@link #NULL_INT} if the employee has none
+     */
+    int salary(int row) {
+        return salaries[row];
+    }
+
+    /**
+     * @return the age, or {@link #NULL_INT} if the employee has none
+     */
+    int age(int row) {
+        return ages[row];
+    }
+
+    String name(int row) {
+        return names.get(row);
+    }
+
+    boolean nameContains(int row, Utf8Column.Needle needle) {
+        return names.containsNormalized(row, needle);
+    }
+
+    String title(int row) {
+        int code = titleCodes[row];
+        return code == NO_CODE ? null : titles[code];
+    }
+
+    /**
+     * @return the row's title as an index into {@link #titleOf(int)}, equal for equal titles, or -1 if it has none
+     */
+    int titleCode(int row) {
+        return titleCodes[row];
+    }
+
+    String titleOf(int code) {
+        return titles[code];
+    }
+
+    /**
+     * @return the number of distinct titles, so codes run from 0 to one less than this
+     */
+    int titleCount() {
+        return titles.length;
+    }
+
+    String email(int row) {
+        String localPart = emailLocalParts.get(row);
+        int domain = emailDomainCodes[row];
+        return localPart == null || domain == NO_CODE ? localPart : localPart + emailDomains[domain];
+    }
+
+    private static Integer boxed(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    /**
+     * Appends employees column by column; {@link #build()} trims the arrays to size.
+     */
+    static final class Builder {
+        private long[] ids;
+        private int[] salaries;
+        private int[] ages;
+        private int[] titleCodes;
+        private int[] emailDomainCodes;
+        private final Map<String, Integer> titleDictionary = new HashMap<>();
+        private final Map<String, Integer> domainDictionary = new HashMap<>();
+        private final Utf8Column.Builder names;
+        private final Utf8Column.Builder emailLocalParts;
+        private int size;
+
+        Builder(int expectedRows) {
+            int capacity = Math.max(16, expectedRows);
+            this.ids = new long[2 * capacity];
+            this.salaries = new int[capacity];
+            this.ages = new int[capacity];
+            this.titleCodes = new int[capacity];
+            this.emailDomainCodes = new int[capacity];
+            this.names = new Utf8Column.Builder(capacity);
+            this.emailLocalParts = new Utf8Column.Builder(capacity);
+        }
+
+        Builder add(Employee employee) {
+            if (size == salaries.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, 2 * capacity);
+                salaries = Arrays.copyOf(salaries, capacity);
+                ages = Arrays.copyOf(ages, capacity);
+                titleCodes = Arrays.copyOf(titleCodes, capacity);
+                emailDomainCodes = Arrays.copyOf(emailDomainCodes, capacity);
+            }
+            UUID id = employee.getId();
+            if (id != null) {
+                ids[2 * size] = id.getMostSignificantBits();
+                ids[2 * size + 1] = id.getLeastSignificantBits();
+            }
+            salaries[size] = employee.getSalary() == null ? NULL_INT : employee.getSalary();
+            ages[size] = employee.getAge() == null ? NULL_INT : employee.getAge();
+            titleCodes[size] = encode(titleDictionary, employee.getTitle());
+            names.add(employee.getName());
+            String email = employee.getEmail();
+            int at = email == null ? -1 : email.lastIndexOf('@');
+            if (at < 0) {
+                emailLocalParts.add(email);
+                emailDomainCodes[size] = NO_CODE;
+            } else {
+                emailLocalParts.add(email.substring(0, at));
+                emailDomainCodes[size] = encode(domainDictionary, email.substring(at));
+            }
+            size++;
+            return this;
+        }
+
+        RosterColumns build() {
+            return new RosterColumns(
+                    size,
+                    Arrays.copyOf(ids, 2 * size),
+                    Arrays.copyOf(salaries, size),
+                    Arrays.copyOf(ages, size),
+                    Arrays.copyOf(titleCodes, size),
+                    decode(titleDictionary),
+                    names.build(),
+                    emailLocalParts.build(),
+                    Arrays.copyOf(emailDomainCodes, size),
+                    decode(domainDictionary));
+        }
+
+        private static int encode(Map<String, Integer> dictionary, String value) {
+            return value == null ? NO_CODE : dictionary.computeIfAbsent(value, ignored -> dictionary.size());
+        }
+
+        private static String[] decode(Map<String, Integer> dictionary) {
+            String[] values = new String[dictionary.size()];
+            dictionary.forEach((value, code) -> values[code] = value);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryStats;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Immutable, versioned point-in-time copy of the employee roster.
+ * <p>
+ * A snapshot is never modified after construction, so it can be handed to any number of concurrent readers without
+ * locking. Changes are applied copy-on-write: {@link #withCreated(Employee)} and {@link #withDeleted(UUID)} return a
+ * new snapshot whose version is one higher, which {@link RosterCache} then publishes atomically. Readers therefore see
+ * either the old or the new roster, never a half-applied change.
+ * </p>
+ * <p>
+ * Employees are stored by row, in {@link RosterColumns} rather than as {@link Employee} objects, followed by a short
+ * tail of rows created since the columns were built. Rows are append-only within a snapshot lineage and a deleted row
+ * is left as a tombstone, so row numbers stay stable and the indexes built over them only need the changed row
+ * patched, not a rebuild. The tombstones and indexes are in turn split into chunks, or keep the rows added since
+ * they were built apart, so a write copies only the pieces it touches and the tail, and shares the rest with the
+ * previous snapshot. Once tombstones outnumber live rows, or the tail outgrows a fraction of the columns, the
+ * snapshot is compacted into fresh columns. Answers for the salary endpoints are precomputed when the snapshot is
+ * built, so serving them allocates nothing, an employee's row is found through an {@link IdIndex}, name searches go
+ * through a trigram {@link NameIndex}, and employees are only materialized for the rows a query returns.
+ * </p>
+ */
+public final class RosterSnapshot {
+
+    private static final int TOP_TEN = 10;
+    // batches up to this size are patched into the indexes item by item; larger ones rebuild them once
+    private static final int MAX_PATCHED_BATCH = 16;
+    // created rows kept as objects before they are folded into the columns: at least this many, or 1/16 of the roster
+    private static final int MIN_TAIL = 64;
+    private static final Employee[] NO_TAIL = new Employee[0];
+    private static final long[][] NO_TOMBSTONES = new long[0][];
+
+    private final long version;
+    private final RosterColumns columns;
+    private final Employee[] tail;
+    private final long[][] tombstones;
+    private final int live;
+    private final IdIndex ids;
+    private final SalaryIndex salaries;
+    private final NameIndex names;
+    private final List<String> topTenNames;
+    private final Instant fetchedAt;
+    // the roster as given, for unindexed snapshots only
+    private final List<Employee> listed;
+    private volatile List<Employee> employees;
+
+    private RosterSnapshot(
+            long version,
+            RosterColumns columns,
+            Employee[] tail,
+            long[][] tombstones,
+            int live,
+            IdIndex ids,
+            SalaryIndex salaries,
+            NameIndex names,
+            Instant fetchedAt) {
+        this.version = version;
+        this.columns = columns;
+        this.tail = tail;
+        this.tombstones = tombstones;
+        this.live = live;
+        this.ids = ids;
+        this.salaries = salaries;
+        this.names = names;
+        this.fetchedAt = fetchedAt;
+        this.listed = null;
+        this.topTenNames = indexedTopNames(TOP_TEN);
+    }
+
+    private RosterSnapshot(long version, List<Employee> listed) {
+        this.version = version;
+        this.columns = null;
+        this.tail = NO_TAIL;
+        this.tombstones = NO_TOMBSTONES;
+        this.live = listed.size();
+        this.ids = null;
+        this.salaries = null;
+        this.names = null;
+        this.fetchedAt = Instant.now();
+        this.listed = listed;
+        this.employees = listed;
+        this.topTenNames = List.of();
+    }
+
+    /**
+     * Builds an indexed snapshot from a freshly fetched roster.
+     */
+    public static RosterSnapshot of(long version, List<Employee> employees) {
+        RosterColumns.Builder builder = new RosterColumns.Builder(employees.size());
+        for (Employee e : employees) {
+            if (e != null) {
+                builder.add(e);
+            }
+        }
+        return indexed(version, builder.build(), Instant.now());
+    }
+
+    /**
+     * Builds a snapshot without indexes, for one-off reads where building them would cost more than it saves. It keeps
+     * the employees as given, and its queries scan them instead.
+     */
+    public static RosterSnapshot unindexed(List<Employee> employees) {
+        return new RosterSnapshot(0, employees.stream().filter(Objects::nonNull).toList());
+    }
+
+    private static RosterSnapshot indexed(long version, RosterColumns columns, Instant fetchedAt) {
+        return new RosterSnapshot(
+                version,
+                columns,
+                NO_TAIL,
+                NO_TOMBSTONES,
+                columns.size(),
+                IdIndex.build(columns),
+                SalaryIndex.build(columns),
+                NameIndex.build(columns),
+                fetchedAt);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return the live employees in roster order, materialized from the columns as they are read
+     */
+    public List<Employee> employees() {
+        List<Employee> view = employees;
+        if (view == null) {
+            view = new LiveRows(liveRows());
+            employees = view;
+        }
+        return view;
+    }
+
+    public Instant fetchedAt() {
+        return fetchedAt;
+    }
+
+    public int size() {
+        return live;
+    }
+
+    public boolean isIndexed() {
+        return columns != null;
+    }
+
+    /**
+     * @return the name of the employee with the given id, or {@code null} if there is none or it has no name
+     */
+    public String nameOf(UUID id) {
+        if (listed != null) {
+            return listed.stream()
+                    .filter(e -> Objects.equals(e.getId(), id))
+                    .findFirst()
+                    .map(Employee::getName)
+                    .orElse(null);
+        }
+        int row = rowOf(id);
+        return row < 0 ? null : nameAt(row);
+    }
+
+    /**
+     * @return the highest salary, or {@code null} if no employee has one
+     */
+    public Integer highestSalary() {
+        if (listed != null) {
+            return listed.stream()
+                    .map(Employee::getSalary)
+                    .filter(Objects::nonNull)
+                    .max(Integer::compare)
+                    .orElse(null);
+        }
+        return salaries.size() == 0 ? null : salaries.salaryAt(0);
+    }
+
+    /**
+     * @return the salary distribution, exact from the salary index, or sketched from the roster if it has no index
+     */
+    public SalaryDistribution salaryDistribution() {
+        if (listed != null) {
+            // one sketch per parallel slice, merged as the slices complete
+            return listed.parallelStream()
+                    .map(Employee::getSalary)
+                    .filter(Objects::nonNull)
+                    .collect(SalarySketch::new, SalarySketch::add, SalarySketch::merge);
+        }
+        return salaries;
+    }
+
+    /**
+     * @return names of the ten highest earners, highest first
+     */
+    public List<String> topTenNames() {
+        return topNames(TOP_TEN);
+    }
+
+    /**
+     * Read from the salary index in O(k) when the snapshot has one; otherwise selected from the roster by a
+     * {@link ParallelTopK} pass across cores. Employees without a name are left out of the result but still hold their
+     * place in the ranking.
+     *
+     * @param k number of highest earners to consider
+     * @return names of the {@code k} highest earners, highest first
+     */
+    public List<String> topNames(int k) {
+        if (listed != null) {
+            int[] rows = ParallelTopK.highestPaidRows(listed.size(), row -> salaryOf(listed.get(row)), k);
+            List<String> names = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                String name = listed.get(row).getName();
+                if (name != null) {
+                    names.add(name);
+                }
+            }
+            return names;
+        }
+        return k == TOP_TEN ? topTenNames : indexedTopNames(k);
+    }
+
+    /**
+     * Finds employees whose name contains the given fragment, in roster order.
+     *
+     * @param fragment search text, normalized with {@code toLowerCase().trim()}
+     */
+    public List<Employee> searchByName(String fragment) {
+        if (listed != null) {
+            return listed.stream()
+                    .filter(e -> e.getName() != null && NameIndex.normalize(e.getName()).contains(fragment))
+                    .toList();
+        }
+        Utf8Column.Needle needle = Utf8Column.Needle.of(fragment);
+        int[] matches = names.search(fragment, rowCount(), row -> isLive(row) && nameMatches(row, needle));
+        List<Employee> result = new ArrayList<>(matches.length);
+        for (int row : matches) {
+            result.add(employeeAt(row));
+        }
+        return result;
+    }
+
+    /**
+     * Salary statistics per title, in one parallel pass over the title codes and salaries. Employees without a title
+     * or a salary are left out.
+     *
+     * @return one entry per title, ordered by title
+     */
+    public List<SalaryStats> salaryStatsByTitle() {
+        List<String> titles = new ArrayList<>();
+        Map<String, Integer> codes = new HashMap<>();
+        SalaryAggregation aggregation;
+        if (listed != null) {
+            int[] rowCodes = titleCodes(listed, codes, titles);
+            aggregation = SalaryAggregation.over(listed.size(), row -> rowCodes[row], row -> salaryOf(listed.get(row)));
+        } else {
+            for (int code = 0; code < columns.titleCount(); code++) {
+                titles.add(columns.titleOf(code));
+                codes.put(columns.titleOf(code), code);
+            }
+            // the tail's titles may be missing from the columns' dictionary, so they get codes of their own
+            int[] tailCodes = titleCodes(Arrays.asList(tail), codes, titles);
+            aggregation = SalaryAggregation.over(
+                    rowCount(),
+                    row -> !isLive(row)
+                            ? SalaryAggregation.NO_GROUP
+                            : row < columns.size() ? columns.titleCode(row) : tailCodes[row - columns.size()],
+                    this::salaryAt);
+        }
+        return aggregation.stats(titles::get).stream()
+                .sorted(Comparator.comparing(SalaryStats::getGroup))
+                .toList();
+    }
+
+    /**
+     * Salary statistics per age band, in one parallel pass over the ages and salaries. Employees without an age or a
+     * salary are left out.
+     *
+     * @param width number of years per band; bands start at multiples of it, so a width of 10 gives "20-29", "30-39"
+     *              and so on
+     * @return one entry per band that has employees, youngest first
+     */
+    public List<SalaryStats> salaryStatsByAgeBand(int width) {
+        if (width < 1) {
+            throw new IllegalArgumentException("age band width must be positive, was " + width);
+        }
+        IntUnaryOperator bandOf = age -> age < 0 ? SalaryAggregation.NO_GROUP : age / width;
+        SalaryAggregation aggregation = listed != null
+                ? SalaryAggregation.over(
+                        listed.size(),
+                        row -> bandOf.applyAsInt(ageOf(listed.get(row))),
+                        row -> salaryOf(listed.get(row)))
+                : SalaryAggregation.over(
+                        rowCount(),
+                        row -> isLive(row) ? bandOf.applyAsInt(ageAt(row)) : SalaryAggregation.NO_GROUP,
+                        this::salaryAt);
+        return aggregation.stats(band -> (long) band * width + "-" + ((long) band * width + width - 1));
+    }
+
+    /**
+     * Returns a copy of this snapshot with the given employee added, replacing any existing entry with the same id.
+     */
+    public RosterSnapshot withCreated(Employee created) {
+        if (listed != null) {
+            List<Employee> next = new ArrayList<>(listed);
+            next.removeIf(e -> Objects.equals(e.getId(), created.getId()));
+            next.add(created);
+            return new RosterSnapshot(version + 1, Collections.unmodifiableList(next));
+        }
+        RosterSnapshot base = this;
+        int existing = rowOf(created.getId());
+        if (existing >= 0) {
+            base = withoutRow(existing);
+        }
+        if (base.tail.length >= Math.max(MIN_TAIL, base.columns.size() / 16)) {
+            return indexed(version + 1, base.liveColumns(Collections.emptySet(), List.of(created)), fetchedAt);
+        }
+        Employee[] nextTail = Arrays.copyOf(base.tail, base.tail.length + 1);
+        nextTail[base.tail.length] = created;
+        int row = base.rowCount();
+        SalaryIndex index = base.salaries;
+        if (created.getSalary() != null) {
+            index = index.with(row, created.getSalary());
+        }
+        return new RosterSnapshot(
+                version + 1,
+                base.columns,
+                nextTail,
+                base.tombstones,
+                base.live + 1,
+                base.ids.with(row, created.getId()),
+                index,
+                base.names.with(row, created.getName()),
+                fetchedAt);
+    }
+
+    /**
+     * Returns a copy of this snapshot without the employee with the given id, or this snapshot if no such employee
+     * exists.
+     */
+    public RosterSnapshot withDeleted(UUID id) {
+        if (listed != null) {
+            List<Employee> next = new ArrayList<>(listed);
+            return next.removeIf(e -> Objects.equals(e.getId(), id))
+                    ? new RosterSnapshot(version + 1, Collections.unmodifiableList(next))
+                    : this;
+        }
+        int row = rowOf(id);
+        if (row < 0) {
+            return this;
+        }
+        RosterSnapshot next = withoutRow(row);
+        if (next.rowCount() - next.size() > Math.max(TOP_TEN, next.size())) {
+            return next.compacted();
+        }
+        return next;
+    }
+
+    /**
+     * Returns a copy of this snapshot with a whole batch of creates and deletes applied as one change, so the version
+     * goes up by one however many items the batch holds. Large batches rebuild the indexes once instead of patching
+     * them per item.
+     */
+    public RosterSnapshot withChanges(Collection<Employee> created, Collection<UUID> deleted) {
+        if (created.isEmpty() && deleted.isEmpty()) {
+            return this;
+        }
+        Set<UUID> replaced = new HashSet<>(deleted);
+        created.forEach(e -> replaced.add(e.getId()));
+        if (listed != null) {
+            List<Employee> next = new ArrayList<>(listed);
+            next.removeIf(e -> replaced.contains(e.getId()));
+            next.addAll(created);
+            return new RosterSnapshot(version + 1, Collections.unmodifiableList(next));
+        }
+        if (created.size() + deleted.size() <= MAX_PATCHED_BATCH) {
+            RosterSnapshot next = this;
+            for (UUID id : deleted) {
+                next = next.withDeleted(id);
+            }
+            for (Employee employee : created) {
+                next = next.withCreated(employee);
+            }
+            return new RosterSnapshot(
+                    version + 1,
+                    next.columns,
+                    next.tail,
+                    next.tombstones,
+                    next.live,
+                    next.ids,
+                    next.salaries,
+                    next.names,
+                    fetchedAt);
+        }
+        return indexed(version + 1, liveColumns(replaced, created), fetchedAt);
+    }
+
+    private RosterSnapshot withoutRow(int row) {
+        SalaryIndex index = salaries;
+        int salary = salaryAt(row);
+        if (salary != RosterColumns.NULL_INT) {
+            index = index.without(row, salary);
+        }
+        return new RosterSnapshot(
+                version + 1,
+                columns,
+                tail,
+                Bits.with(tombstones, row),
+                live - 1,
+                ids,
+                index,
+                names,
+                fetchedAt);
+    }
+
+    private RosterSnapshot compacted() {
+        return indexed(version, liveColumns(Collections.emptySet(), List.of()), fetchedAt);
+    }
+
+    /**
+     * Folds the live rows, minus {@code excluded} ids and followed by {@code appended}, into fresh columns.
+     */
+    private RosterColumns liveColumns(Set<UUID> excluded, Collection<Employee> appended) {
+        RosterColumns.Builder builder = new RosterColumns.Builder(live + appended.size());
+        for (int row = 0; row < rowCount(); row++) {
+            if (isLive(row)) {
+                Employee e = employeeAt(row);
+                if (!excluded.contains(e.getId())) {
+                    builder.add(e);
+                }
+            }
+        }
+        appended.forEach(builder::add);
+        return builder.build();
+    }
+
+    private int rowCount() {
+        return columns.size() + tail.length;
+    }
+
+    private boolean isLive(int row) {
+        return !Bits.get(tombstones, row);
+    }
+
+    private Employee employeeAt(int row) {
+        return row < columns.size() ? columns.employee(row) : tail[row - columns.size()];
+    }
+
+    private String nameAt(int row) {
+        return row < columns.size() ? columns.name(row) : tail[row - columns.size()].getName();
+    }
+
+    private int salaryAt(int row) {
+        return row < columns.size() ? columns.salary(row) : salaryOf(tail[row - columns.size()]);
+    }
+
+    private int ageAt(int row) {
+        return row < columns.size() ? columns.age(row) : ageOf(tail[row - columns.size()]);
+    }
+
+    private static int salaryOf(Employee employee) {
+        return employee.getSalary() == null ? RosterColumns.NULL_INT : employee.getSalary();
+    }
+
+    private static int ageOf(Employee employee) {
+        return employee.getAge() == null ? RosterColumns.NULL_INT : employee.getAge();
+    }
+
+    /**
+     * Codes each employee's title, adding titles not seen before to {@code codes} and {@code titles}.
+     *
+     * @return the code of each employee's title, or {@link SalaryAggregation#NO_GROUP} if it has none
+     */
+    private static int[] titleCodes(List<Employee> employees, Map<String, Integer> codes, List<String> titles) {
+        int[] rowCodes = new int[employees.size()];
+        for (int i = 0; i < rowCodes.length; i++) {
+            String title = employees.get(i).getTitle();
+            if (title == null) {
+                rowCodes[i] = SalaryAggregation.NO_GROUP;
+            } else {
+                rowCodes[i] = codes.computeIfAbsent(title, t -> {
+                    titles.add(t);
+                    return titles.size() - 1;
+                });
+            }
+        }
+        return rowCodes;
+    }
+
+    private boolean nameMatches(int row, Utf8Column.Needle needle) {
+        if (row < columns.size()) {
+            return columns.nameContains(row, needle);
+        }
+        String name = tail[row - columns.size()].getName();
+        return name != null && NameIndex.normalize(name).contains(needle.normalized());
+    }
+
+    private int rowOf(UUID id) {
+        return ids.rowOf(id, row -> isLive(row) && hasId(row, id));
+    }
+
+    private boolean hasId(int row, UUID id) {
+        return row < columns.size() ? columns.hasId(row, id) : id.equals(tail[row - columns.size()].getId());
+    }
+
+    /**
+     * @return the live rows in order, or {@code null} if every row is live
+     */
+    private int[] liveRows() {
+        if (live == rowCount()) {
+            return null;
+        }
+        int[] rows = new int[live];
+        int n = 0;
+        for (int row = 0; row < rowCount(); row++) {
+            if (isLive(row)) {
+                rows[n++] = row;
+            }
+        }
+        return rows;
+    }
+
+    private List<String> indexedTopNames(int k) {
+        int n = Math.max(0, Math.min(k, salaries.size()));
+        List<String> names = new ArrayList<>(n);
+        for (int rank = 0; rank < n; rank++) {
+            String name = nameAt(salaries.rowAt(rank));
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Read-only list view over the live rows that materializes each employee when it is read.
+     */
+    private final class LiveRows extends AbstractList<Employee> implements RandomAccess {
+
+        private final int[] rows;
+
+        private LiveRows(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Employee get(int index) {
+            Objects.checkIndex(index, live);
+            return employeeAt(rows == null ? index : rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return live;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.SalaryStats;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Per-group salary statistics gathered in one parallel pass over a roster's rows.
+ * <p>
+ * Groups are small dense {@code int}s, such as title codes or age bands, and every parallel slice of the rows fills
+ * its own primitive accumulators indexed by group: counts, sums, minimums, maximums and the salaries themselves,
+ * which the percentiles need. Slices are merged pairwise as the fork-join pass completes, so no boxing, map lookups
+ * or shared state sit on the per-row path.
+ * </p>
+ */
+final class SalaryAggregation {
+
+    static final int NO_GROUP = -1;
+
+    private long[] counts = new long[0];
+    private long[] sums = new long[0];
+    private int[] mins = new int[0];
+    private int[] maxes = new int[0];
+    private int[][] salaries = new int[0][];
+
+    private SalaryAggregation() {}
+
+    /**
+     * @param rows     number of rows to scan
+     * @param groupOf  the row's group, or {@link #NO_GROUP} to leave it out
+     * @param salaryOf the row's salary, or {@link RosterColumns#NULL_INT} to leave it out
+     */
+    static SalaryAggregation over(int rows, IntUnaryOperator groupOf, IntUnaryOperator salaryOf) {
+        return IntStream.range(0, rows)
+                .parallel()
+                .collect(
+                        SalaryAggregation::new,
+                        (aggregation, row) -> {
+                            int group = groupOf.applyAsInt(row);
+                            if (group == NO_GROUP) {
+                                return;
+                            }
+                            int salary = salaryOf.applyAsInt(row);
+                            if (salary != RosterColumns.NULL_INT) {
+                                aggregation.add(group, salary);
+                            }
+                        },
+                        SalaryAggregation::merge);
+    }
+
+    /**
+     * @param labelOf names each group in the result
+     * @return stats for every group with at least one salary, in group order
+     */
+    List<SalaryStats> stats(IntFunction<String> labelOf) {
+        return IntStream.range(0, counts.length)
+                .parallel()
+                .filter(group -> counts[group] > 0)
+                .mapToObj(group -> statsOf(group, labelOf.apply(group)))
+                .toList();
+    }
+
+    private SalaryStats statsOf(int group, String label) {
+        int n = (int) counts[group];
+        int[] sorted = Arrays.copyOf(salaries[group], n);
+        Arrays.sort(sorted);
+        return new SalaryStats(
+                label,
+                n,
+                mins[group],
+                maxes[group],
+                (double) sums[group] / n,
+                percentile(sorted, 50),
+                percentile(sorted, 90),
+                percentile(sorted, 99));
+    }
+
+    private static int percentile(int[] sorted, double percentile) {
+        return sorted[(int) SalaryDistribution.nearestRank(percentile, sorted.length) - 1];
+    }
+
+    private void add(int group, int salary) {
+        if (group >= counts.length) {
+            grow(group + 1);
+        }
+        int n = (int) counts[group]++;
+        if (n == 0) {
+            mins[group] = salary;
+            maxes[group] = salary;
+            salaries[group] = new int[8];
+        } else {
+            mins[group] = Math.min(mins[group], salary);
+            maxes[group] = Math.max(maxes[group], salary);
+            if (n == salaries[group].length) {
+                salaries[group] = Arrays.copyOf(salaries[group], n * 2);
+            }
+        }
+        sums[group] += salary;
+        salaries[group][n] = salary;
+    }
+
+    private void merge(SalaryAggregation other) {
+        if (other.counts.length > counts.length) {
+            grow(other.counts.length);
+        }
+        for (int group = 0; group < other.counts.length; group++) {
+            int theirs = (int) other.counts[group];
+            if (theirs == 0) {
+                continue;
+            }
+            int ours = (int) counts[group];
+            if (ours == 0) {
+                mins[group] = other.mins[group];
+                maxes[group] = other.maxes[group];
+                salaries[group] = other.salaries[group];
+            } else {
+                mins[group] = Math.min(mins[group], other.mins[group]);
+                maxes[group] = Math.max(maxes[group], other.maxes[group]);
+                int[] merged = Arrays.copyOf(salaries[group], ours + theirs);
+                System.arraycopy(other.salaries[group], 0, merged, ours, theirs);
+                salaries[group] = merged;
+            }
+            counts[group] += theirs;
+            sums[group] += other.sums[group];
+        }
+    }
+
+    private void grow(int groups) {
+        counts = Arrays.copyOf(counts, groups);
+        sums = Arrays.copyOf(sums, groups);
+        mins = Arrays.copyOf(mins, groups);
+        maxes = Arrays.copyOf(maxes, groups);
+        salaries = Arrays.copyOf(salaries, groups);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.SalaryPercentile;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of how salaries are distributed across a roster, answering rank queries without a sort.
+ * <p>
+ * Indexed snapshots answer exactly from their {@link SalaryIndex}; rosters without one are summarized by a
+ * {@link SalarySketch}, whose answers are within its relative accuracy.
+ * </p>
+ */
+public interface SalaryDistribution {
+
+    /**
+     * @return number of salaries in the distribution
+     */
+    long count();
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the salary at the given percentile by the nearest-rank method; 0 is the lowest salary and 100 the
+     *         highest. Only meaningful if {@link #count()} is positive.
+     */
+    int percentile(double percentile);
+
+    /**
+     * @return number of salaries less than or equal to the given one
+     */
+    long countAtMost(int salary);
+
+    /**
+     * @return the 1-based rank of the given percentile among {@code count} ascending values
+     */
+    static long nearestRank(double percentile, long count) {
+        return Math.max(1, (long) Math.ceil(percentile * count / 100));
+    }
+
+    /**
+     * @return the salary at each of the given percentiles, in the order given, or nothing if there are no salaries
+     */
+    default List<SalaryPercentile> percentiles(List<Double> percentiles) {
+        if (count() == 0) {
+            return List.of();
+        }
+        return percentiles.stream().map(p -> new SalaryPercentile(p, percentile(p))).toList();
+    }
+
+    /**
+     * Splits the range from the lowest to the highest salary into equally wide buckets and counts the salaries in
+     * each. Buckets are trimmed at the highest salary, so fewer than requested are returned for narrow ranges.
+     *
+     * @param buckets maximum number of buckets
+     */
+    default List<SalaryHistogramBucket> histogram(int buckets) {
+        if (count() == 0) {
+            return List.of();
+        }
+        long low = percentile(0);
+        long high = percentile(100);
+        long width = Math.max(1, (high - low + buckets) / buckets);
+        List<SalaryHistogramBucket> histogram = new ArrayList<>(buckets);
+        // nothing lies below the lowest salary
+        long below = 0;
+        for (long from = low; from <= high; from += width) {
+            int to = (int) Math.min(high, from + width - 1);
+            long atMost = countAtMost(to);
+            histogram.add(new SalaryHistogramBucket((int) from, to, atMost - below));
+            below = atMost;
+        }
+        return histogram;
+    }
+}
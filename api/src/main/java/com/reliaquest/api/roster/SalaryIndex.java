@@ -0,0 +1,213 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+
+/**
+ * Immutable salary ordering over the rows of a {@link RosterSnapshot}.
+ * <p>
+ * Each indexed row is packed into a single {@code long} - salary in the high 32 bits, row in the low 32 bits - and the
+ * keys are kept sorted ascending in primitive arrays, so the highest earners are simply the tail of the ordering. Ties
+ * on salary rank the earlier row first. Being sorted, it also answers percentile and histogram queries exactly, with a
+ * lookup or a binary search.
+ * </p>
+ * <p>
+ * The keys are split into chunks of a few hundred, with a running count of keys per chunk, so adding or removing a
+ * row is a binary search plus a copy of one chunk and of the chunk table; every other chunk is shared with the
+ * previous version. A chunk that outgrows twice the build size is split in two and an emptied one is dropped. No
+ * boxing and no re-sorting.
+ * </p>
+ */
+final class SalaryIndex implements SalaryDistribution {
+
+    // keys per chunk when the index is built
+    private static final int CHUNK = 512;
+    private static final SalaryIndex EMPTY = new SalaryIndex(new long[0][], new int[0]);
+
+    // ascending keys; ends[i] is the number of keys in chunks 0 to i
+    private final long[][] chunks;
+    private final int[] ends;
+
+    private SalaryIndex(long[][] chunks, int[] ends) {
+        this.chunks = chunks;
+        this.ends = ends;
+    }
+
+    private SalaryIndex(long[][] chunks) {
+        this(chunks, ends(chunks));
+    }
+
+    static SalaryIndex empty() {
+        return EMPTY;
+    }
+
+    static SalaryIndex build(RosterColumns columns) {
+        long[] keys = new long[columns.size()];
+        int n = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            int salary = columns.salary(row);
+            if (salary != RosterColumns.NULL_INT) {
+                keys[n++] = key(salary, row);
+            }
+        }
+        Arrays.sort(keys, 0, n);
+        long[][] chunks = new long[(n + CHUNK - 1) / CHUNK][];
+        for (int c = 0; c < chunks.length; c++) {
+            chunks[c] = Arrays.copyOfRange(keys, c * CHUNK, Math.min(n, (c + 1) * CHUNK));
+        }
+        return new SalaryIndex(chunks);
+    }
+
+    static long key(int salary, int row) {
+        return ((long) salary << 32) | (Integer.MAX_VALUE - row);
+    }
+
+    static int salaryOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int rowOf(long key) {
+        return Integer.MAX_VALUE - (int) (key & 0xFFFFFFFFL);
+    }
+
+    SalaryIndex with(int row, int salary) {
+        long key = key(salary, row);
+        if (chunks.length == 0) {
+            return new SalaryIndex(new long[][] {{key}}, new int[] {1});
+        }
+        int c = chunkOf(key);
+        long[] chunk = chunks[c];
+        int pos = Arrays.binarySearch(chunk, key);
+        if (pos >= 0) {
+            return this;
+        }
+        int insertAt = -pos - 1;
+        long[] grown = new long[chunk.length + 1];
+        System.arraycopy(chunk, 0, grown, 0, insertAt);
+        grown[insertAt] = key;
+        System.arraycopy(chunk, insertAt, grown, insertAt + 1, chunk.length - insertAt);
+        if (grown.length <= 2 * CHUNK) {
+            return replaced(c, grown);
+        }
+        int half = grown.length / 2;
+        return replaced(c, Arrays.copyOfRange(grown, 0, half), Arrays.copyOfRange(grown, half, grown.length));
+    }
+
+    SalaryIndex without(int row, int salary) {
+        long key = key(salary, row);
+        if (chunks.length == 0) {
+            return this;
+        }
+        int c = chunkOf(key);
+        long[] chunk = chunks[c];
+        int pos = Arrays.binarySearch(chunk, key);
+        if (pos < 0) {
+            return this;
+        }
+        if (chunk.length == 1) {
+            return replaced(c);
+        }
+        long[] shrunk = new long[chunk.length - 1];
+        System.arraycopy(chunk, 0, shrunk, 0, pos);
+        System.arraycopy(chunk, pos + 1, shrunk, pos, chunk.length - pos - 1);
+        return replaced(c, shrunk);
+    }
+
+    int size() {
+        return ends.length == 0 ? 0 : ends[ends.length - 1];
+    }
+
+    @Override
+    public long count() {
+        return size();
+    }
+
+    @Override
+    public int percentile(double percentile) {
+        return salaryOf(keyAt((int) SalaryDistribution.nearestRank(percentile, size()) - 1));
+    }
+
+    @Override
+    public long countAtMost(int salary) {
+        if (chunks.length == 0) {
+            return 0;
+        }
+        // sorts after every key with this salary, whatever its row, and before any higher salary
+        long bound = ((long) salary << 32) | 0x80000000L;
+        int c = chunkOf(bound);
+        return start(c) - Arrays.binarySearch(chunks[c], bound) - 1;
+    }
+
+    /**
+     * Row holding the given rank, where rank 0 is the highest salary.
+     */
+    int rowAt(int rank) {
+        return rowOf(keyAt(size() - 1 - rank));
+    }
+
+    /**
+     * Salary at the given rank, where rank 0 is the highest salary.
+     */
+    int salaryAt(int rank) {
+        return salaryOf(keyAt(size() - 1 - rank));
+    }
+
+    /**
+     * @return the key at the given position in ascending order
+     */
+    private long keyAt(int index) {
+        int lo = 0;
+        int hi = ends.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] <= index) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return chunks[lo][index - start(lo)];
+    }
+
+    /**
+     * @return the first chunk whose last key is at least the given one, or the last chunk if there is none
+     */
+    private int chunkOf(long key) {
+        int lo = 0;
+        int hi = chunks.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            long[] chunk = chunks[mid];
+            if (chunk[chunk.length - 1] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int start(int chunk) {
+        return chunk == 0 ? 0 : ends[chunk - 1];
+    }
+
+    /**
+     * @return a copy of this index with chunk {@code c} replaced by the given ones, which may be none
+     */
+    private SalaryIndex replaced(int c, long[]... replacements) {
+        long[][] next = new long[chunks.length - 1 + replacements.length][];
+        System.arraycopy(chunks, 0, next, 0, c);
+        System.arraycopy(replacements, 0, next, c, replacements.length);
+        System.arraycopy(chunks, c + 1, next, c + replacements.length, chunks.length - c - 1);
+        return new SalaryIndex(next);
+    }
+
+    private static int[] ends(long[][] chunks) {
+        int[] ends = new int[chunks.length];
+        int end = 0;
+        for (int c = 0; c < chunks.length; c++) {
+            end += chunks[c].length;
+            ends[c] = end;
+        }
+        return ends;
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.api.roster;
+
+/**
+ * Fixed-size quantile sketch of salaries with a guaranteed relative error, in the style of DDSketch.
+ * <p>
+ * Salaries are counted in logarithmically sized buckets: bucket {@code i} holds the values in
+ * {@code (gamma^(i-1), gamma^i]}, and any value in it is reported as the bucket's midpoint, which is within
+ * {@link #RELATIVE_ACCURACY} of every value it stands for. Covering all positive {@code int}s takes about a thousand
+ * buckets, so the sketch is a few KB whether it summarizes ten salaries or ten million, and a percentile is a walk over
+ * those buckets rather than a sort. Because it only holds counts, two sketches merge exactly by adding them, so a
+ * roster can be sketched in parallel slices. Salaries of zero or less are counted together as zero.
+ * </p>
+ * <p>
+ * Not thread-safe; build one per thread and {@link #merge(SalarySketch) merge} them.
+ * </p>
+ */
+public final class SalarySketch implements SalaryDistribution {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int BUCKETS = bucketOf(Integer.MAX_VALUE) + 1;
+
+    // counts[0] holds salaries of zero or less, counts[i] for i > 0 those in bucket i - 1
+    private final long[] counts = new long[BUCKETS + 1];
+    private long count;
+
+    public void add(int salary) {
+        counts[slotOf(salary)]++;
+        count++;
+    }
+
+    /**
+     * Adds every salary counted by {@code other} to this sketch.
+     *
+     * @return this sketch
+     */
+    public SalarySketch merge(SalarySketch other) {
+        for (int slot = 0; slot < counts.length; slot++) {
+            counts[slot] += other.counts[slot];
+        }
+        count += other.count;
+        return this;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public int percentile(double percentile) {
+        long rank = SalaryDistribution.nearestRank(percentile, count);
+        long seen = 0;
+        for (int slot = 0; slot < counts.length; slot++) {
+            seen += counts[slot];
+            if (seen >= rank) {
+                return valueOf(slot);
+            }
+        }
+        return valueOf(lastSlot());
+    }
+
+    /**
+     * Counts whole buckets, so salaries sharing the given salary's bucket are all included.
+     */
+    @Override
+    public long countAtMost(int salary) {
+        int last = slotOf(salary);
+        long atMost = 0;
+        for (int slot = 0; slot <= last; slot++) {
+            atMost += counts[slot];
+        }
+        return atMost;
+    }
+
+    private int lastSlot() {
+        int slot = counts.length - 1;
+        while (slot > 0 && counts[slot] == 0) {
+            slot--;
+        }
+        return slot;
+    }
+
+    private static int slotOf(int salary) {
+        return salary <= 0 ? 0 : bucketOf(salary) + 1;
+    }
+
+    private static int bucketOf(int salary) {
+        return (int) Math.ceil(Math.log(salary) / LOG_GAMMA);
+    }
+
+    private static int valueOf(int slot) {
+        if (slot == 0) {
+            return 0;
+        }
+        double midpoint = 2 * Math.pow(GAMMA, slot - 1) / (GAMMA + 1);
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(midpoint));
+    }
+}
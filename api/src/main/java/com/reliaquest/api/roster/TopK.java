@@ -0,0 +1,112 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bounded top-K selection by salary for rosters that have no {@link SalaryIndex}.
+ * <p>
+ * Keeps a min-heap of at most {@code k} packed salary/arrival keys while employees are {@link #offer(Employee)
+ * offered} one at a time, so selecting the top ten of a million employees costs O(n log k) with fixed scratch space
+ * instead of a full sort, and works equally over a list or a stream that is never materialized. Employees without a
+ * salary are skipped; ties rank the earlier employee first. It is sequential, which suits a roster streamed from the
+ * client as it is parsed; a roster already in memory is split across cores by {@link ParallelTopK} instead.
+ * </p>
+ */
+public final class TopK {
+
+    private final long[] keys;
+    private final Employee[] values;
+    private int size;
+    private int offered;
+
+    public TopK(int k) {
+        this.keys = new long[Math.max(0, k)];
+        this.values = new Employee[keys.length];
+    }
+
+    /**
+     * @param employees roster to select from
+     * @param k         maximum number of employees to return
+     * @return up to {@code k} employees, highest salary first
+     */
+    public static List<Employee> highestPaid(List<Employee> employees, int k) {
+        TopK top = new TopK(Math.min(k, employees.size()));
+        employees.forEach(top::offer);
+        return top.highestFirst();
+    }
+
+    public void offer(Employee employee) {
+        int arrival = offered++;
+        Integer salary = employee.getSalary();
+        if (salary == null || keys.length == 0) {
+            return;
+        }
+        long key = SalaryIndex.key(salary, arrival);
+        if (size < keys.length) {
+            keys[size] = key;
+            values[size] = employee;
+            siftUp(keys, values, size++);
+        } else if (key > keys[0]) {
+            keys[0] = key;
+            values[0] = employee;
+            siftDown(keys, values, 0, size);
+        }
+    }
+
+    /**
+     * @return the selected employees, highest salary first
+     */
+    public List<Employee> highestFirst() {
+        long[] heapKeys = Arrays.copyOf(keys, size);
+        Employee[] heapValues = Arrays.copyOf(values, size);
+        Employee[] result = new Employee[size];
+        for (int n = size; n > 0; n--) {
+            result[n - 1] = heapValues[0];
+            heapKeys[0] = heapKeys[n - 1];
+            heapValues[0] = heapValues[n - 1];
+            siftDown(heapKeys, heapValues, 0, n - 1);
+        }
+        return Arrays.asList(result);
+    }
+
+    private static void siftUp(long[] keys, Employee[] values, int i) {
+        long key = keys[i];
+        Employee value = values[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    private static void siftDown(long[] keys, Employee[] values, int i, int n) {
+        if (n == 0) {
+            return;
+        }
+        long key = keys[i];
+        Employee value = values[i];
+        int half = n >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            values[i] = values[child];
+            i = child;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+}
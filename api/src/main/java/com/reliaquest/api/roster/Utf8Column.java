@@ -0,0 +1,120 @@
+package com.reliaquest.api.roster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Immutable column of nullable strings stored as UTF-8 in one shared byte arena.
+ * <p>
+ * Row {@code r} is the byte range {@code offsets[r]} to {@code offsets[r + 1]}, so a million names cost one
+ * {@code byte[]} and one {@code int[]} rather than a million {@code String}s with their headers and backing arrays.
+ * Strings are only decoded when a row is materialized. Rows that are pure ASCII, which most names are, are flagged when
+ * the column is built so they can be matched case-insensitively byte by byte without decoding.
+ * </p>
+ */
+final class Utf8Column {
+
+    private final byte[] bytes;
+    private final int[] offsets;
+    private final long[] nulls;
+    private final long[] nonAscii;
+
+    private Utf8Column(byte[] bytes, int[] offsets, long[] nulls, long[] nonAscii) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.nulls = nulls;
+        this.nonAscii = nonAscii;
+    }
+
+    String get(int row) {
+        if (Bits.get(nulls, row)) {
+            return null;
+        }
+        return new String(bytes, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether the row, normalized with {@link NameIndex#normalize(String)}, contains the needle. ASCII rows are
+     * compared in place with ASCII case folding; only non-ASCII rows are decoded.
+     */
+    boolean containsNormalized(int row, Needle needle) {
+        if (Bits.get(nulls, row)) {
+            return false;
+        }
+        if (Bits.get(nonAscii, row)) {
+            return NameIndex.normalize(get(row)).contains(needle.normalized());
+        }
+        // lower-casing ASCII yields ASCII, so an ASCII row can't contain a non-ASCII needle
+        return needle.ascii() != null && indexOfFolded(offsets[row], offsets[row + 1], needle.ascii()) >= 0;
+    }
+
+    private int indexOfFolded(int from, int to, byte[] needle) {
+        outer:
+        for (int start = from; start + needle.length <= to; start++) {
+            for (int i = 0; i < needle.length; i++) {
+                if (foldAscii(bytes[start + i]) != needle[i]) {
+                    continue outer;
+                }
+            }
+            return start;
+        }
+        return -1;
+    }
+
+    private static byte foldAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    /**
+     * A normalized search fragment, with its bytes precomputed when it is pure ASCII.
+     */
+    record Needle(String normalized, byte[] ascii) {
+
+        static Needle of(String normalized) {
+            byte[] utf8 = normalized.getBytes(StandardCharsets.UTF_8);
+            return new Needle(normalized, utf8.length == normalized.length() ? utf8 : null);
+        }
+    }
+
+    /**
+     * Appends strings to a growing arena; {@link #build()} trims it to size.
+     */
+    static final class Builder {
+        private byte[] bytes;
+        private int[] offsets;
+        private long[] nulls = new long[0];
+        private long[] nonAscii = new long[0];
+        private int size;
+
+        Builder(int expectedRows) {
+            this.bytes = new byte[Math.max(16, expectedRows * 16)];
+            this.offsets = new int[Math.max(1, expectedRows) + 1];
+        }
+
+        void add(String value) {
+            if (size + 1 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            int end = offsets[size];
+            if (value == null) {
+                nulls = Bits.set(nulls, size);
+            } else {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                if (utf8.length != value.length()) {
+                    nonAscii = Bits.set(nonAscii, size);
+                }
+                if (end + utf8.length > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, end + utf8.length));
+                }
+                System.arraycopy(utf8, 0, bytes, end, utf8.length);
+                end += utf8.length;
+            }
+            offsets[++size] = end;
+        }
+
+        Utf8Column build() {
+            return new Utf8Column(
+                    Arrays.copyOf(bytes, offsets[size]), Arrays.copyOf(offsets, size + 1), nulls, nonAscii);
+        }
+    }
+}
@@ -2,10 +2,21 @@ package com.reliaquest.api.service;
 
 import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.BatchResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryStats;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.SalaryDistribution;
+import com.reliaquest.api.roster.SalarySketch;
+import com.reliaquest.api.roster.TopK;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,17 +26,18 @@ import org.springframework.stereotype.Service;
 public class EmployeeService implements IEmployeeService {
 
     private final EmployeeClient employeeClient;
+    private final RosterCache rosterCache;
 
-    public EmployeeService(EmployeeClient employeeClient) {
+    public EmployeeService(EmployeeClient employeeClient, RosterCache rosterCache) {
         this.employeeClient = employeeClient;
+        this.rosterCache = rosterCache;
     }
 
     /**
      * Returns a list of all employees from the data source.
      * <p>
-     * Wraps the client call and logs any errors
-     * before rethrowing them. In a real application, consider adding caching or
-     * pagination if the dataset is large. i.e if employee count is too large, pass in page number as param
+     * Served from the in-memory {@link RosterCache} snapshot, so repeated calls don't cost an upstream request each.
+     * Logs any errors before rethrowing them.
      * </p>
      *
      * @return all employees
@@ -33,7 +45,7 @@ public class EmployeeService implements IEmployeeService {
     @Override
     public List<Employee> getAllEmployees() {
         try {
-            return employeeClient.getAllEmployees();
+            return rosterCache.current().employees();
         } catch (Exception e) {
             log.error("Error getting all employees", e);
             throw e;
@@ -44,9 +56,9 @@ public class EmployeeService implements IEmployeeService {
      * Finds employees whose names contain the given search string (case-insensitive).
      * If the search string is null or blank, returns all employees.
      * <p>
-     * Note: This filters in memory by loading all employees first, which isn’t the most
-     * efficient. In a real application, this should be done with a database query so the
-     * filtering happens where the data lives.
+     * Served from the trigram name index of the cached roster snapshot, so a search only verifies the few names that
+     * share the fragment's trigrams. When the cache is disabled the roster is streamed from the client and filtered as
+     * it is parsed, keeping only the matches in memory.
      * </p>
      *
      * @param searchString text to search for in employee names
@@ -60,10 +72,16 @@ public class EmployeeService implements IEmployeeService {
             }
 
             String sanitizedName = searchString.toLowerCase().trim();
-            return getAllEmployees().stream()
-                    .filter(e ->
-                            e.getName() != null && e.getName().toLowerCase().contains(sanitizedName))
-                    .collect(Collectors.toList());
+            if (rosterCache.isEnabled()) {
+                return rosterCache.current().searchByName(sanitizedName);
+            }
+            List<Employee> matches = new ArrayList<>();
+            employeeClient.forEachEmployee(e -> {
+                if (e.getName() != null && e.getName().toLowerCase().contains(sanitizedName)) {
+                    matches.add(e);
+                }
+            });
+            return matches;
         } catch (Exception e) {
             log.error("Error searching employees by name containing '{}'", searchString, e);
             throw e;
@@ -101,52 +119,68 @@ public class EmployeeService implements IEmployeeService {
     /**
      * Finds the highest salary among all employees.
      * <p>
-     * Retrieves all employees in memory, then filters and compares their salaries.
-     * This works fine for small datasets, but for large ones it would be more efficient
-     * to let the database calculate the maximum salary directly.
+     * Answered from the salary index of the cached roster snapshot, where it is precomputed whenever the roster
+     * changes. When the cache is disabled the roster is streamed from the client in a single constant-memory pass.
      * </p>
      *
      * @return the highest salary found, or 0 if no employees exist
      */
     @Override
     public Integer getHighestSalary() {
-        List<Employee> employees = getAllEmployees();
-        return employees.stream()
-                .map(Employee::getSalary)
-                .filter(Objects::nonNull)
-                .max(Integer::compareTo)
-                .orElseGet(() -> {
-                    log.warn("No employees found - returning default salary of 0");
-                    return 0;
-                });
+        Integer highest = rosterCache.isEnabled() ? rosterCache.current().highestSalary() : streamMaxSalary();
+        if (highest == null) {
+            log.warn("No employees found - returning default salary of 0");
+            return 0;
+        }
+        return highest;
     }
 
     /**
      * Returns the names of the top ten highest-paid employees.
      * <p>
-     * Retrieves all employees in memory, then sorts and limits the list.
-     * This works fine for small datasets, but for large ones it would be
-     * more efficient to have the database handle sorting and limiting.
+     * Answered from the salary index of the cached roster snapshot, where the list is precomputed whenever the roster
+     * changes. When the cache is disabled the roster is streamed from the client through a bounded top-K selection,
+     * so neither the roster nor a full sort is ever materialized.
      * </p>
      *
      * @return a list of up to ten employee names, highest earners first
      */
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        List<Employee> employees = getAllEmployees();
-        return employees.stream()
-                .filter(employee -> employee.getSalary() != null)
-                .sorted((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary())) // highest first
-                .limit(10)
-                .map(Employee::getName)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        if (rosterCache.isEnabled()) {
+            return rosterCache.current().topTenNames();
+        }
+        return streamTopNames(10);
+    }
+
+    /**
+     * Returns the names of the {@code k} highest-paid employees.
+     * <p>
+     * Read from the salary index of the cached roster snapshot, which is already in salary order, so the cost grows
+     * with {@code k} rather than the roster. When the cache is disabled the fetched roster is selected from by a
+     * fork-join scan across cores, since {@code k} may be large enough for a sequential heap to dominate; rosters too
+     * small to split are scanned on the calling thread.
+     * </p>
+     *
+     * @param k number of highest earners to return
+     * @return a list of up to {@code k} employee names, highest earners first
+     */
+    @Override
+    public List<String> getTopHighestEarningEmployeeNames(int k) {
+        try {
+            // uncached, current() is a freshly fetched unindexed snapshot
+            return rosterCache.current().topNames(k);
+        } catch (Exception e) {
+            log.error("Error getting top {} highest earning employee names", k, e);
+            throw e;
+        }
     }
 
     /**
      * Creates a new employee using the provided input data.
      * <p>
-     * Calls the client to create the employee and returns the created record.
+     * Calls the client to create the employee and returns the created record, which is also applied to the local
+     * roster replica so the next read sees it without refetching.
      * Throws an exception if creation fails or the client returns {@code null}.
      * </p>
      *
@@ -161,6 +195,7 @@ public class EmployeeService implements IEmployeeService {
             if (created == null) {
                 throw new IllegalStateException("Failed to create employee - client returned null");
             }
+            rosterCache.applyCreated(created);
             return created;
         } catch (Exception e) {
             log.error("Error creating employee: {}", newEmployee, e);
@@ -171,13 +206,15 @@ public class EmployeeService implements IEmployeeService {
     /**
      * Deletes an employee by their ID.
      * <p>
-     * Throws {@link EmployeeNotFoundException} if the ID is null or blank.
-     * Logs any errors before rethrowing them.
+     * Throws {@link EmployeeNotFoundException} if the ID is null or blank, or if the mock server doesn't confirm the
+     * delete. The name the mock server's DELETE needs is read from the local roster replica when it holds the
+     * employee, saving a lookup by ID. Only a confirmed delete is applied to the replica. Logs any errors before
+     * rethrowing them.
      * </p>
      *
      * @param id the employee's ID
      * @return the ID of the deleted employee
-     * @throws EmployeeNotFoundException if the ID is null or blank
+     * @throws EmployeeNotFoundException if the ID is null or blank, or no employee was deleted
      */
     @Override
     public String deleteEmployeeById(String id) {
@@ -185,11 +222,182 @@ public class EmployeeService implements IEmployeeService {
             if (id == null || id.isBlank()) {
                 throw new EmployeeNotFoundException(id);
             }
-            employeeClient.deleteEmployeeById(id);
+            // the mock server answers "true" only if it removed someone; anything else leaves the replica untouched
+            if (!Boolean.parseBoolean(employeeClient.deleteEmployeeById(id, rosterCache.knownName(id)))) {
+                throw new EmployeeNotFoundException(id);
+            }
+            rosterCache.applyDeleted(UUID.fromString(id));
             return id;
         } catch (Exception e) {
             log.error("Error deleting employee with id {}", id, e);
             throw e;
         }
     }
+
+    /**
+     * Creates a batch of employees.
+     * <p>
+     * The inputs are sent upstream in as few batch requests as possible rather than one request each, and every
+     * employee created is applied to the local roster replica in a single new version. Items the mock server rejects
+     * are reported in place without failing the rest.
+     * </p>
+     *
+     * @param inputs details for the new employees
+     * @return one result per input, in order
+     */
+    @Override
+    public List<BatchResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs) {
+        try {
+            List<BatchResult<Employee>> results = employeeClient.createEmployees(inputs);
+            List<Employee> created = results.stream()
+                    .map(BatchResult::getData)
+                    .filter(Objects::nonNull)
+                    .toList();
+            rosterCache.applyBatch(created, List.of());
+            return results;
+        } catch (Exception e) {
+            log.error("Error creating batch of {} employees", inputs.size(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes a batch of employees by ID.
+     * <p>
+     * Sent upstream as batch requests, and applied to the local roster replica in a single new version. Unknown or
+     * malformed IDs are reported in place without failing the rest.
+     * </p>
+     *
+     * @param ids the employees' IDs
+     * @return one result per ID, in order: the ID if it was deleted, otherwise why not
+     */
+    @Override
+    public List<BatchResult<String>> deleteEmployeesById(List<String> ids) {
+        try {
+            List<BatchResult<String>> results = employeeClient.deleteEmployeesById(ids, rosterCache::knownName);
+            List<UUID> deleted = results.stream()
+                    .map(BatchResult::getData)
+                    .filter(Objects::nonNull)
+                    .map(UUID::fromString)
+                    .toList();
+            rosterCache.applyBatch(List.of(), deleted);
+            return results;
+        } catch (Exception e) {
+            log.error("Error deleting batch of {} employees", ids.size(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Summarizes salaries per title: count, min, max, mean and exact percentiles.
+     * <p>
+     * Computed from the roster snapshot in a single parallel pass over its columns, so a report costs a few KB instead
+     * of a download of the whole roster. Employees without a title or salary are left out.
+     * </p>
+     *
+     * @return one entry per title, ordered by title
+     */
+    @Override
+    public List<SalaryStats> getSalaryStatsByTitle() {
+        try {
+            return rosterCache.current().salaryStatsByTitle();
+        } catch (Exception e) {
+            log.error("Error computing salary stats by title", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Summarizes salaries per age band: count, min, max, mean and exact percentiles.
+     * <p>
+     * Computed like {@link #getSalaryStatsByTitle()}. Bands start at multiples of {@code width}, so a width of 10
+     * groups employees into 20-29, 30-39 and so on. Employees without an age or salary are left out.
+     * </p>
+     *
+     * @param width number of years per band
+     * @return one entry per band that has employees, youngest first
+     * @throws IllegalArgumentException if {@code width} is less than 1
+     */
+    @Override
+    public List<SalaryStats> getSalaryStatsByAgeBand(int width) {
+        try {
+            return rosterCache.current().salaryStatsByAgeBand(width);
+        } catch (Exception e) {
+            log.error("Error computing salary stats by age band of width {}", width, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the salaries at the given percentiles, by the nearest-rank method.
+     * <p>
+     * Answered exactly from the salary index of the cached roster snapshot, which is kept sorted as employees are
+     * created and deleted, so each percentile is a single lookup. When the cache is disabled the roster is streamed
+     * from the client into a fixed-size {@link SalarySketch}, and the answers are within its 1% relative accuracy.
+     * </p>
+     *
+     * @param percentiles percentiles between 0 and 100
+     * @return one entry per percentile, in the order given, or an empty list if no employee has a salary
+     */
+    @Override
+    public List<SalaryPercentile> getSalaryPercentiles(List<Double> percentiles) {
+        try {
+            return salaryDistribution().percentiles(percentiles);
+        } catch (Exception e) {
+            log.error("Error computing salary percentiles {}", percentiles, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Counts salaries in equally wide buckets between the lowest and the highest salary.
+     * <p>
+     * Answered like {@link #getSalaryPercentiles(List)}: exactly, with a binary search per bucket, from the cached
+     * snapshot, or approximately from a sketch when the cache is disabled.
+     * </p>
+     *
+     * @param buckets maximum number of buckets
+     * @return the buckets in ascending order, or an empty list if no employee has a salary
+     */
+    @Override
+    public List<SalaryHistogramBucket> getSalaryHistogram(int buckets) {
+        try {
+            return salaryDistribution().histogram(buckets);
+        } catch (Exception e) {
+            log.error("Error computing salary histogram with {} buckets", buckets, e);
+            throw e;
+        }
+    }
+
+    private SalaryDistribution salaryDistribution() {
+        if (rosterCache.isEnabled()) {
+            return rosterCache.current().salaryDistribution();
+        }
+        SalarySketch sketch = new SalarySketch();
+        employeeClient.forEachEmployee(e -> {
+            if (e.getSalary() != null) {
+                sketch.add(e.getSalary());
+            }
+        });
+        return sketch;
+    }
+
+    private List<String> streamTopNames(int k) {
+        TopK top = new TopK(k);
+        employeeClient.forEachEmployee(top::offer);
+        return top.highestFirst().stream()
+                .map(Employee::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Integer streamMaxSalary() {
+        IntSummaryStatistics salaries = new IntSummaryStatistics();
+        employeeClient.forEachEmployee(e -> {
+            if (e.getSalary() != null) {
+                salaries.accept(e.getSalary());
+            }
+        });
+        return salaries.getCount() == 0 ? null : salaries.getMax();
+    }
 }
@@ -1,7 +1,11 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.model.BatchResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryStats;
 import java.util.List;
 
 public interface IEmployeeService {
@@ -15,7 +19,21 @@ public interface IEmployeeService {
 
     List<String> getTopTenHighestEarningEmployeeNames();
 
+    List<String> getTopHighestEarningEmployeeNames(int k);
+
     Employee createEmployee(CreateEmployeeInput input);
 
     String deleteEmployeeById(String id);
+
+    List<BatchResult<Employee>> createEmployees(List<CreateEmployeeInput> inputs);
+
+    List<BatchResult<String>> deleteEmployeesById(List<String> ids);
+
+    List<SalaryStats> getSalaryStatsByTitle();
+
+    List<SalaryStats> getSalaryStatsByAgeBand(int width);
+
+    List<SalaryPercentile> getSalaryPercentiles(List<Double> percentiles);
+
+    List<SalaryHistogramBucket> getSalaryHistogram(int buckets);
 }
@@ -0,0 +1,43 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.BatchResult;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryStats;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link IEmployeeService}: same operations, but results are delivered asynchronously.
+ */
+public interface IReactiveEmployeeService {
+    Mono<List<Employee>> getAllEmployees();
+
+    Mono<List<Employee>> getEmployeesByNameSearch(String searchString);
+
+    Mono<Employee> getEmployeeById(String id);
+
+    Mono<Integer> getHighestSalary();
+
+    Mono<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    Mono<List<String>> getTopHighestEarningEmployeeNames(int k);
+
+    Mono<Employee> createEmployee(CreateEmployeeInput input);
+
+    Mono<String> deleteEmployeeById(String id);
+
+    Mono<List<BatchResult<Employee>>> createEmployees(List<CreateEmployeeInput> inputs);
+
+    Mono<List<BatchResult<String>>> deleteEmployeesById(List<String> ids);
+
+    Mono<List<SalaryStats>> getSalaryStatsByTitle();
+
+    Mono<List<SalaryStats>> getSalaryStatsByAgeBand(int width);
+
+    Mono<List<SalaryPercentile>> getSalaryPercentiles(List<Double> percentiles);
+
+    Mono<List<SalaryHistogramBucket>> getSalaryHistogram(int buckets);
+}
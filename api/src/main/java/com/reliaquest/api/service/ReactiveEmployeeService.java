@@ -0,0 +1,207 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.ReactiveEmployeeClient;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.BatchResult;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryStats;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking implementation of the employee operations, active in {@code employee.api.mode=reactive}.
+ * <p>
+ * Reads are answered from the same {@link RosterCache} snapshot as {@link EmployeeService}. The only time a read has
+ * to go upstream is before the cache is loaded; that fetch goes through {@link ReactiveEmployeeClient} and building
+ * the snapshot's indexes happens on the bounded-elastic scheduler, so no request thread is ever parked waiting on the
+ * mock server. Reads that arrive while that load is in flight subscribe to it rather than each starting their own, so
+ * a burst of requests against a cold cache costs one upstream call.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "reactive")
+public class ReactiveEmployeeService implements IReactiveEmployeeService {
+
+    private final ReactiveEmployeeClient employeeClient;
+    private final RosterCache rosterCache;
+    // the roster load in flight, if any
+    private final AtomicReference<Mono<RosterSnapshot>> loading = new AtomicReference<>();
+
+    public ReactiveEmployeeService(ReactiveEmployeeClient employeeClient, RosterCache rosterCache) {
+        this.employeeClient = employeeClient;
+        this.rosterCache = rosterCache;
+    }
+
+    @Override
+    public Mono<List<Employee>> getAllEmployees() {
+        return roster().map(RosterSnapshot::employees).doOnError(e -> log.error("Error getting all employees", e));
+    }
+
+    @Override
+    public Mono<List<Employee>> getEmployeesByNameSearch(String searchString) {
+        if (searchString == null || searchString.isBlank()) {
+            return getAllEmployees();
+        }
+        String sanitizedName = searchString.toLowerCase().trim();
+        return roster().map(roster -> roster.searchByName(sanitizedName))
+                .doOnError(e -> log.error("Error searching employees by name containing '{}'", searchString, e));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(String id) {
+        if (id == null || id.isBlank()) {
+            return Mono.error(new EmployeeNotFoundException(String.valueOf(id)));
+        }
+        return employeeClient
+                .getEmployeeById(id)
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(id)))
+                .doOnError(e -> log.error("Error getting employee with id {}", id, e));
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalary() {
+        return roster().map(roster -> {
+            Integer highest = roster.highestSalary();
+            if (highest == null) {
+                log.warn("No employees found - returning default salary of 0");
+                return 0;
+            }
+            return highest;
+        });
+    }
+
+    @Override
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return roster().map(RosterSnapshot::topTenNames);
+    }
+
+    @Override
+    public Mono<List<String>> getTopHighestEarningEmployeeNames(int k) {
+        return roster().map(roster -> roster.topNames(k));
+    }
+
+    @Override
+    public Mono<Employee> createEmployee(CreateEmployeeInput input) {
+        return employeeClient
+                .createEmployee(input)
+                .switchIfEmpty(Mono.error(
+                        () -> new IllegalStateException("Failed to create employee - client returned null")))
+                .doOnNext(rosterCache::applyCreated)
+                .doOnError(e -> log.error("Error creating employee: {}", input, e));
+    }
+
+    @Override
+    public Mono<String> deleteEmployeeById(String id) {
+        if (id == null || id.isBlank()) {
+            return Mono.error(new EmployeeNotFoundException(id));
+        }
+        // the mock server answers "true" only if it removed someone; anything else leaves the replica untouched
+        return employeeClient
+                .deleteEmployeeById(id, rosterCache.knownName(id))
+                .filter(Boolean::parseBoolean)
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(id)))
+                .map(deleted -> {
+                    rosterCache.applyDeleted(UUID.fromString(id));
+                    return id;
+                })
+                .doOnError(e -> log.error("Error deleting employee with id {}", id, e));
+    }
+
+    @Override
+    public Mono<List<BatchResult<Employee>>> createEmployees(List<CreateEmployeeInput> inputs) {
+        return employeeClient
+                .createEmployees(inputs)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(results -> rosterCache.applyBatch(
+                        results.stream()
+                                .map(BatchResult::getData)
+                                .filter(Objects::nonNull)
+                                .toList(),
+                        List.of()))
+                .doOnError(e -> log.error("Error creating batch of {} employees", inputs.size(), e));
+    }
+
+    @Override
+    public Mono<List<BatchResult<String>>> deleteEmployeesById(List<String> ids) {
+        return employeeClient
+                .deleteEmployeesById(ids, rosterCache::knownName)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(results -> rosterCache.applyBatch(
+                        List.of(),
+                        results.stream()
+                                .map(BatchResult::getData)
+                                .filter(Objects::nonNull)
+                                .map(UUID::fromString)
+                                .toList()))
+                .doOnError(e -> log.error("Error deleting batch of {} employees", ids.size(), e));
+    }
+
+    @Override
+    public Mono<List<SalaryStats>> getSalaryStatsByTitle() {
+        return roster()
+                .map(RosterSnapshot::salaryStatsByTitle)
+                .doOnError(e -> log.error("Error computing salary stats by title", e));
+    }
+
+    @Override
+    public Mono<List<SalaryStats>> getSalaryStatsByAgeBand(int width) {
+        return roster()
+                .map(roster -> roster.salaryStatsByAgeBand(width))
+                .doOnError(e -> log.error("Error computing salary stats by age band of width {}", width, e));
+    }
+
+    @Override
+    public Mono<List<SalaryPercentile>> getSalaryPercentiles(List<Double> percentiles) {
+        return roster()
+                .map(roster -> roster.salaryDistribution().percentiles(percentiles))
+                .doOnError(e -> log.error("Error computing salary percentiles {}", percentiles, e));
+    }
+
+    @Override
+    public Mono<List<SalaryHistogramBucket>> getSalaryHistogram(int buckets) {
+        return roster()
+                .map(roster -> roster.salaryDistribution().histogram(buckets))
+                .doOnError(e -> log.error("Error computing salary histogram with {} buckets", buckets, e));
+    }
+
+    private Mono<RosterSnapshot> roster() {
+        RosterSnapshot loaded = rosterCache.currentIfLoaded();
+        if (loaded != null) {
+            return Mono.just(loaded);
+        }
+        return Mono.defer(() -> {
+            Mono<RosterSnapshot> inFlight = loading.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+            // the cache's load begins on subscription, before the fetch, so writes made meanwhile are replayed onto
+            // the roster. Only the published load clears the slot, and before its subscribers hear the outcome, so a
+            // read retried right after a failure starts a fresh load instead of replaying the cached error
+            Mono<RosterSnapshot> load = Mono.using(
+                            rosterCache::beginLoad,
+                            initialLoad -> employeeClient
+                                    .getAllEmployees()
+                                    .publishOn(Schedulers.boundedElastic())
+                                    .map(initialLoad::install),
+                            RosterCache.InitialLoad::close)
+                    .doOnTerminate(() -> loading.set(null))
+                    .doOnCancel(() -> loading.set(null))
+                    .cache();
+            inFlight = loading.compareAndExchange(null, load);
+            return inFlight != null ? inFlight : load;
+        });
+    }
+}
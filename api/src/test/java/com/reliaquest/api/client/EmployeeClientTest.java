@@ -0,0 +1,192 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class EmployeeClientTest {
+
+    private final RestTemplate http = new RestTemplate();
+    private final MockRestServiceServer upstream = MockRestServiceServer.bindTo(http).build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeClient client = new EmployeeClient(
+            http,
+            Jackson2ObjectMapperBuilder.json().build(),
+            new SimpleAsyncTaskExecutor(),
+            new UpstreamRateLimiter(
+                    10.0, 0.1, 10.0, 0.1, 10, Duration.ofSeconds(2), Duration.ofSeconds(1), meterRegistry),
+            meterRegistry,
+            0);
+
+    @Test
+    void forEachEmployee_streamsEachEmployeeSkippingFieldsAroundAndInsideThem() {
+        UUID tiger = UUID.randomUUID();
+        UUID garrett = UUID.randomUUID();
+        upstream.expect(requestTo(EmployeeClient.BASE))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(
+                        """
+                        {
+                          "meta": {"page": {"size": 2}, "tags": ["a", {"b": [1, 2]}]},
+                          "data": [
+                            {
+                              "id": "%s",
+                              "employee_name": "Tiger Nixon",
+                              "employee_salary": 320800,
+                              "employee_age": 61,
+                              "employee_title": "Vice Chair Executive Principal Chief Coordinator",
+                              "employee_email": "tnixon@company.com",
+                              "employee_address": {"city": "Edinburgh", "lines": ["1 Main St"]}
+                            },
+                            {
+                              "id": "%s",
+                              "employee_name": "Garrett Winters",
+                              "employee_salary": 170750,
+                              "employee_age": 63,
+                              "employee_title": "Vice Chair Executive Principal Chief Coordinator",
+                              "employee_email": "gwinters@company.com"
+                            }
+                          ],
+                          "status": "Successfully processed request."
+                        }
+                        """
+                                .formatted(tiger, garrett),
+                        MediaType.APPLICATION_JSON));
+
+        List<Employee> streamed = new ArrayList<>();
+        client.forEachEmployee(streamed::add);
+
+        upstream.verify();
+        assertEquals(
+                List.of(
+                        new Employee(
+                                tiger,
+                                "Tiger Nixon",
+                                320800,
+                                61,
+                                "Vice Chair Executive Principal Chief Coordinator",
+                                "tnixon@company.com"),
+                        new Employee(
+                                garrett,
+                                "Garrett Winters",
+                                170750,
+                                63,
+                                "Vice Chair Executive Principal Chief Coordinator",
+                                "gwinters@company.com")),
+                streamed);
+        // titles are interned as they are parsed, so equal titles share one string
+        assertSame(streamed.get(0).getTitle(), streamed.get(1).getTitle());
+    }
+
+    @Test
+    void forEachEmployee_emptyRosterNeverCallsBack() {
+        upstream.expect(requestTo(EmployeeClient.BASE))
+                .andRespond(withSuccess(
+                        "{\"data\": [], \"status\": \"Successfully processed request.\"}",
+                        MediaType.APPLICATION_JSON));
+
+        List<Employee> streamed = new ArrayList<>();
+        client.forEachEmployee(streamed::add);
+
+        upstream.verify();
+        assertEquals(List.of(), streamed);
+    }
+
+    @Test
+    void deleteEmployeeById_usesTheKnownNameWithoutALookup() {
+        upstream.expect(requestTo(EmployeeClient.BASE))
+                .andExpect(method(HttpMethod.DELETE))
+                .andExpect(content().json("{\"name\": \"Tiger Nixon\"}"))
+                .andRespond(withSuccess("{\"data\": \"true\"}", MediaType.APPLICATION_JSON));
+
+        assertEquals("true", client.deleteEmployeeById(UUID.randomUUID().toString(), "Tiger Nixon"));
+
+        upstream.verify();
+    }
+
+    @Test
+    void deleteEmployeeById_looksTheNameUpWithoutAKnownOne() {
+        UUID id = UUID.randomUUID();
+        upstream.expect(requestTo(EmployeeClient.BASE + "/" + id))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(
+                        "{\"data\": {\"id\": \"%s\", \"employee_name\": \"Garrett Winters\"}}".formatted(id),
+                        MediaType.APPLICATION_JSON));
+        upstream.expect(requestTo(EmployeeClient.BASE))
+                .andExpect(method(HttpMethod.DELETE))
+                .andExpect(content().json("{\"name\": \"Garrett Winters\"}"))
+                .andRespond(withSuccess("{\"data\": \"true\"}", MediaType.APPLICATION_JSON));
+
+        assertEquals("true", client.deleteEmployeeById(id.toString(), null));
+
+        upstream.verify();
+    }
+
+    @Test
+    void getAllEmployees_rereadsByCursorWhenADeleteShiftsRowsAcrossPages() {
+        RestTemplate pagedHttp = new RestTemplate();
+        MockRestServiceServer pagedUpstream =
+                MockRestServiceServer.bindTo(pagedHttp).ignoreExpectOrder(true).build();
+        EmployeeClient pagedClient = new EmployeeClient(
+                pagedHttp,
+                Jackson2ObjectMapperBuilder.json().build(),
+                new SimpleAsyncTaskExecutor(),
+                new UpstreamRateLimiter(
+                        10.0, 0.1, 10.0, 0.1, 10, Duration.ofSeconds(2), Duration.ofSeconds(1), meterRegistry),
+                meterRegistry,
+                2);
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+        UUID e = UUID.randomUUID();
+        // b is deleted after page 0 is served, so c shifts back onto page 0 and page 1 starts at d
+        pagedUpstream
+                .expect(once(), requestTo(EmployeeClient.BASE + "?page=0&limit=2"))
+                .andRespond(withSuccess(page(5, "p0", a, b), MediaType.APPLICATION_JSON));
+        pagedUpstream
+                .expect(once(), requestTo(EmployeeClient.BASE + "?page=1&limit=2"))
+                .andRespond(withSuccess(page(4, "p1", d, e), MediaType.APPLICATION_JSON));
+        pagedUpstream
+                .expect(once(), requestTo(EmployeeClient.BASE + "?page=2&limit=2"))
+                .andRespond(withSuccess(page(4, null), MediaType.APPLICATION_JSON));
+        pagedUpstream
+                .expect(once(), requestTo(EmployeeClient.BASE + "?limit=2"))
+                .andRespond(withSuccess(page(null, "c1", a, c), MediaType.APPLICATION_JSON));
+        pagedUpstream
+                .expect(once(), requestTo(EmployeeClient.BASE + "?cursor=c1&limit=2"))
+                .andRespond(withSuccess(page(null, null, d, e), MediaType.APPLICATION_JSON));
+
+        List<Employee> roster = pagedClient.getAllEmployees();
+
+        pagedUpstream.verify();
+        assertEquals(List.of(a, c, d, e), roster.stream().map(Employee::getId).toList());
+    }
+
+    private static String page(Integer total, String nextCursor, UUID... ids) {
+        return "{\"data\": {\"items\": [%s]%s%s}}"
+                .formatted(
+                        Stream.of(ids).map("{\"id\": \"%s\"}"::formatted).collect(Collectors.joining(", ")),
+                        total == null ? "" : ", \"total\": " + total,
+                        nextCursor == null ? "" : ", \"nextCursor\": \"" + nextCursor + "\"");
+    }
+}
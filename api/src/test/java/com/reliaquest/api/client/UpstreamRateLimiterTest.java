@@ -0,0 +1,110 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class UpstreamRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 1 req/s, burst of 3, queue for at most 2s, 30s cooldown without Retry-After
+    private final UpstreamRateLimiter limiter = new UpstreamRateLimiter(
+            1.0, 0.1, 10.0, 0.1, 3, Duration.ofSeconds(2), Duration.ofSeconds(30), clock::get, meterRegistry);
+
+    @Test
+    void reserve_allowsBurstThenPacesThenSheds() {
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(TimeUnit.SECONDS.toNanos(1), limiter.reserve());
+        assertEquals(TimeUnit.SECONDS.toNanos(2), limiter.reserve());
+        assertThrows(UpstreamRateLimitedException.class, limiter::reserve);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    void onThrottled_halvesRateAndShedsUntilRetryAfter() {
+        limiter.onThrottled(Duration.ofSeconds(5));
+
+        assertEquals(0.5, limiter.rate());
+        UpstreamRateLimitedException shed = assertThrows(UpstreamRateLimitedException.class, limiter::reserve);
+        assertEquals(5, shed.getRetryAfter().toSeconds());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    void onThrottled_withoutRetryAfterUsesCooldown() {
+        limiter.onThrottled(null);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(27));
+        assertThrows(UpstreamRateLimitedException.class, limiter::reserve);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    void hasSlotWithinMaxWait_allowsRetriesOnlyWhileTheCooldownFitsInMaxWait() {
+        // the default shape: a 1s cooldown under a 2s max wait
+        UpstreamRateLimiter retrying = new UpstreamRateLimiter(
+                1.0, 0.1, 10.0, 0.1, 3, Duration.ofSeconds(2), Duration.ofSeconds(1), clock::get, meterRegistry);
+        assertTrue(retrying.hasSlotWithinMaxWait());
+
+        retrying.onThrottled(null);
+        assertTrue(retrying.hasSlotWithinMaxWait());
+        assertEquals(TimeUnit.SECONDS.toNanos(1), retrying.reserve());
+
+        // consecutive 429s double the cooldown until the retry would be shed
+        retrying.onThrottled(null);
+        assertTrue(retrying.hasSlotWithinMaxWait());
+        retrying.onThrottled(null);
+        assertFalse(retrying.hasSlotWithinMaxWait());
+
+        limiter.onThrottled(Duration.ofSeconds(5));
+        assertFalse(limiter.hasSlotWithinMaxWait());
+    }
+
+    @Test
+    void onSuccess_increasesRateAdditivelyUpToMax() {
+        limiter.onSuccess();
+        assertEquals(1.1, limiter.rate(), 1e-9);
+        for (int i = 0; i < 200; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(10.0, limiter.rate(), 1e-9);
+    }
+
+    @Test
+    void parseRetryAfter_acceptsSecondsAndHttpDates() {
+        assertEquals(Duration.ofSeconds(42), UpstreamRateLimiter.parseRetryAfter("42"));
+        assertNull(UpstreamRateLimiter.parseRetryAfter(null));
+        assertNull(UpstreamRateLimiter.parseRetryAfter("soon"));
+        assertEquals(Duration.ZERO, UpstreamRateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+    }
+
+    @Test
+    void metrics_recordWaitsShedCallsAndThrottles() {
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve();
+        }
+        assertThrows(UpstreamRateLimitedException.class, limiter::reserve);
+        limiter.onThrottled(null);
+
+        assertEquals(5, meterRegistry.get("employee.upstream.rate-limit.wait").timer().count());
+        assertEquals(3, meterRegistry.get("employee.upstream.rate-limit.wait").timer().totalTime(TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("employee.upstream.rate-limit.shed").counter().count());
+        assertEquals(1, meterRegistry.get("employee.upstream.throttled").counter().count());
+        assertEquals(0.5, meterRegistry.get("employee.upstream.rate-limit.rate").gauge().value());
+    }
+}
@@ -2,6 +2,8 @@ package com.reliaquest.api.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -9,6 +11,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryStats;
 import com.reliaquest.api.service.IEmployeeService;
 import jakarta.annotation.Resource;
 import java.util.List;
@@ -118,4 +122,64 @@ class EmployeeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(id.toString()));
     }
+
+    @Test
+    void salaryStatsByAgeBand_defaultsWidthAndRejectsNonPositive() throws Exception {
+        when(employeeService.getSalaryStatsByAgeBand(10))
+                .thenReturn(List.of(new SalaryStats("30-39", 2, 100, 300, 200, 100, 300, 300)));
+
+        mvc.perform(get("/api/v2/employee/salaryStatsByAgeBand"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].group").value("30-39"))
+                .andExpect(jsonPath("$[0].count").value(2))
+                .andExpect(jsonPath("$[0].p90").value(300));
+
+        mvc.perform(get("/api/v2/employee/salaryStatsByAgeBand").param("width", "0"))
+                .andExpect(status().isBadRequest());
+        verify(employeeService, never()).getSalaryStatsByAgeBand(0);
+    }
+
+    @Test
+    void salaryStatsByTitle_returnsOk() throws Exception {
+        when(employeeService.getSalaryStatsByTitle())
+                .thenReturn(List.of(new SalaryStats("Chef", 1, 42000, 42000, 42000, 42000, 42000, 42000)));
+
+        mvc.perform(get("/api/v2/employee/salaryStatsByTitle"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].group").value("Chef"))
+                .andExpect(jsonPath("$[0].mean").value(42000.0));
+    }
+
+    @Test
+    void salaryPercentiles_acceptsRepeatedOrCommaSeparatedValuesAndRejectsOutOfRange() throws Exception {
+        when(employeeService.getSalaryPercentiles(List.of(50.0, 99.9)))
+                .thenReturn(List.of(new SalaryPercentile(50, 80000), new SalaryPercentile(99.9, 190000)));
+
+        mvc.perform(get("/api/v2/employee/salaryPercentiles").param("p", "50", "99.9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].percentile").value(99.9))
+                .andExpect(jsonPath("$[1].salary").value(190000));
+        mvc.perform(get("/api/v2/employee/salaryPercentiles").param("p", "50,99.9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].salary").value(80000));
+
+        mvc.perform(get("/api/v2/employee/salaryPercentiles").param("p", "101"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/v2/employee/salaryHistogram").param("buckets", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void topHighestEarningEmployeeNames_takesKAndRejectsOutOfRange() throws Exception {
+        when(employeeService.getTopHighestEarningEmployeeNames(3)).thenReturn(List.of("A", "B", "C"));
+
+        mvc.perform(get("/api/v2/employee/topHighestEarningEmployeeNames").param("k", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[2]").value("C"));
+
+        mvc.perform(get("/api/v2/employee/topHighestEarningEmployeeNames").param("k", "0"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/v2/employee/topHighestEarningEmployeeNames").param("k", "10001"))
+                .andExpect(status().isBadRequest());
+    }
 }
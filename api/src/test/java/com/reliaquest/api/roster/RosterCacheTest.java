@@ -0,0 +1,190 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+class RosterCacheTest {
+
+    @Mock
+    private EmployeeClient client;
+
+    private final Employee brenden = new Employee(UUID.randomUUID(), "Brenden", 120000, 30, "Dev", "b@example.com");
+    private final Employee finnerty = new Employee(UUID.randomUUID(), "Finnerty", 130000, 31, "Dev", "f@example.com");
+
+    @Test
+    void current_loadsOnceAndServesFromMemory() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden));
+        RosterCache cache = new RosterCache(client, true);
+
+        cache.current();
+        cache.current();
+
+        assertEquals(List.of(brenden), cache.current().employees());
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void refresh_publishesNewSnapshot() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden)).thenReturn(List.of(brenden, finnerty));
+        RosterCache cache = new RosterCache(client, true);
+
+        assertEquals(1, cache.current().size());
+        cache.refresh();
+        assertEquals(2, cache.current().size());
+    }
+
+    @Test
+    void refresh_failureKeepsServingStaleSnapshot() {
+        when(client.getAllEmployees())
+                .thenReturn(List.of(brenden))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+        RosterCache cache = new RosterCache(client, true);
+        RosterSnapshot first = cache.current();
+
+        assertDoesNotThrow(cache::refresh);
+        assertSame(first, cache.current());
+    }
+
+    @Test
+    void refresh_inSyncKeepsVersion() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden));
+        RosterCache cache = new RosterCache(client, true);
+        RosterSnapshot first = cache.current();
+
+        cache.refresh();
+
+        assertSame(first, cache.current());
+    }
+
+    @Test
+    void applyCreatedAndDeleted_bumpVersionWithoutUpstreamCalls() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden));
+        RosterCache cache = new RosterCache(client, true);
+        long v1 = cache.current().version();
+
+        cache.applyCreated(finnerty);
+        assertEquals(v1 + 1, cache.current().version());
+        assertEquals(List.of(brenden, finnerty), cache.current().employees());
+
+        cache.applyDeleted(brenden.getId());
+        assertEquals(v1 + 2, cache.current().version());
+        assertEquals(List.of(finnerty), cache.current().employees());
+
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void applyDeleted_unknownIdKeepsVersion() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden));
+        RosterCache cache = new RosterCache(client, true);
+        RosterSnapshot first = cache.current();
+
+        cache.applyDeleted(UUID.randomUUID());
+
+        assertSame(first, cache.current());
+    }
+
+    @Test
+    void refresh_repairsDrift() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden)).thenReturn(List.of(finnerty));
+        RosterCache cache = new RosterCache(client, true);
+        cache.current();
+        cache.applyCreated(finnerty);
+
+        cache.refresh();
+
+        assertEquals(List.of(finnerty), cache.current().employees());
+        assertEquals(3, cache.current().version());
+    }
+
+    @Test
+    void writes_duringASlowInitialLoadAreReplayedOntoIt() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        when(client.getAllEmployees()).thenAnswer(invocation -> {
+            fetching.countDown();
+            // upstream answered before the writes below reached it
+            assertTrue(written.await(5, TimeUnit.SECONDS));
+            return List.of(brenden);
+        });
+        RosterCache cache = new RosterCache(client, true);
+
+        CompletableFuture<RosterSnapshot> load = CompletableFuture.supplyAsync(cache::current);
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+        cache.applyCreated(finnerty);
+        cache.applyDeleted(brenden.getId());
+        written.countDown();
+
+        RosterSnapshot loaded = load.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(finnerty), loaded.employees());
+        assertEquals(3, loaded.version());
+        assertSame(loaded, cache.current());
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void writes_beforeAnyLoadAreLeftToTheLoad() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden));
+        RosterCache cache = new RosterCache(client, true);
+
+        // nothing is in flight, so nothing is held back: the load fetches the roster as it is after the writes
+        cache.applyCreated(finnerty);
+        cache.applyDeleted(brenden.getId());
+
+        assertEquals(List.of(brenden), cache.current().employees());
+        assertEquals(1, cache.current().version());
+    }
+
+    @Test
+    void disabled_readsThroughOnEveryCall() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden));
+        RosterCache cache = new RosterCache(client, false);
+
+        cache.current();
+        cache.current();
+
+        verify(client, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void applyBatch_publishesOneVersionPerBatch() {
+        when(client.getAllEmployees()).thenReturn(List.of(brenden, finnerty));
+        RosterCache cache = new RosterCache(client, true);
+        cache.current();
+
+        List<Employee> hires = IntStream.range(0, 40)
+                .mapToObj(i -> new Employee(UUID.randomUUID(), "Hire " + i, 1000 + i, 25, "Dev", "h@example.com"))
+                .toList();
+        cache.applyBatch(hires, List.of(brenden.getId()));
+
+        RosterSnapshot snapshot = cache.current();
+        assertEquals(2, snapshot.version());
+        assertEquals(41, snapshot.size());
+        assertEquals(130000, snapshot.highestSalary());
+        assertEquals(List.of(hires.get(7)), snapshot.searchByName("hire 7"));
+
+        cache.applyBatch(List.of(), List.of(finnerty.getId(), hires.get(39).getId()));
+
+        assertEquals(3, cache.current().version());
+        assertEquals(1038, cache.current().highestSalary());
+        verify(client, times(1)).getAllEmployees();
+    }
+}
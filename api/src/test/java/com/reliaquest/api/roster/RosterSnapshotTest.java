@@ -0,0 +1,229 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.SalaryPercentile;
+import com.reliaquest.api.model.SalaryStats;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RosterSnapshotTest {
+
+    private static Employee employee(String name, Integer salary) {
+        return new Employee(UUID.randomUUID(), name, salary, 30, "Engineer", name + "@company.com");
+    }
+
+    @Test
+    void employees_roundTripThroughColumnsIncludingNulls() {
+        List<Employee> roster = List.of(
+                employee("Jill Jenkins", 139082),
+                new Employee(UUID.randomUUID(), null, null, null, null, null),
+                new Employee(UUID.randomUUID(), "Zo\u00eb \u00c5ngstr\u00f6m", 50000, 25, "Chef", null));
+
+        RosterSnapshot snapshot = RosterSnapshot.of(1, roster);
+
+        assertEquals(roster, snapshot.employees());
+        assertEquals(139082, snapshot.highestSalary());
+        assertEquals(List.of("Jill Jenkins", "Zo\u00eb \u00c5ngstr\u00f6m"), snapshot.topTenNames());
+    }
+
+    @Test
+    void searchByName_matchesAsciiAndNonAsciiNamesCaseInsensitively() {
+        Employee jill = employee("Jill JENKINS", 1);
+        Employee zoe = employee("Zo\u00eb \u00c5ngstr\u00f6m", 2);
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(jill, zoe, employee("Bob", 3)));
+
+        assertEquals(List.of(jill), snapshot.searchByName("jenk"));
+        assertEquals(List.of(jill), snapshot.searchByName("ll"));
+        assertEquals(List.of(zoe), snapshot.searchByName("\u00e5ngstr"));
+        assertEquals(List.of(), snapshot.searchByName("jenkinsx"));
+    }
+
+    @Test
+    void writes_patchTheTailAndFoldItIntoColumnsOnceItGrows() {
+        List<Employee> expected = new ArrayList<>(IntStream.range(0, 100)
+                .mapToObj(i -> employee("Seed " + i, 1000 + i))
+                .toList());
+        RosterSnapshot snapshot = RosterSnapshot.of(1, expected);
+
+        for (int i = 0; i < 200; i++) {
+            Employee created = employee("Created " + i, 5000 + i);
+            snapshot = snapshot.withCreated(created);
+            expected.add(created);
+            if (i % 3 == 0) {
+                snapshot = snapshot.withDeleted(expected.remove(0).getId());
+            }
+        }
+
+        assertEquals(expected, snapshot.employees());
+        assertEquals(5199, snapshot.highestSalary());
+        assertEquals("Created 199", snapshot.topTenNames().get(0));
+        assertEquals(List.of(expected.get(expected.size() - 1)), snapshot.searchByName("created 199"));
+    }
+
+    @Test
+    void writes_patchedIntoChunkedIndexesMatchAFreshBuild() {
+        Random random = new Random(11);
+        // several salary chunks and a tail long enough to split some of them
+        List<Employee> expected = new ArrayList<>(IntStream.range(0, 5_000)
+                .mapToObj(i -> employee("Seed " + i, random.nextInt(3_000)))
+                .toList());
+        RosterSnapshot snapshot = RosterSnapshot.of(1, expected);
+
+        for (int i = 0; i < 300; i++) {
+            Employee created = employee("Created " + i, random.nextInt(3_000));
+            snapshot = snapshot.withCreated(created);
+            expected.add(created);
+            snapshot = snapshot.withDeleted(expected.remove(random.nextInt(expected.size())).getId());
+            if (i % 50 == 0) {
+                // re-creating an employee moves them to the end of the roster
+                Employee replaced = expected.remove(random.nextInt(expected.size()));
+                snapshot = snapshot.withCreated(replaced);
+                expected.add(replaced);
+            }
+        }
+        snapshot = snapshot.withDeleted(UUID.randomUUID());
+        RosterSnapshot fresh = RosterSnapshot.of(1, expected);
+
+        assertEquals(expected, snapshot.employees());
+        assertEquals(fresh.topNames(2_000), snapshot.topNames(2_000));
+        assertEquals(fresh.searchByName("created 1"), snapshot.searchByName("created 1"));
+        assertEquals(fresh.searchByName("seed 42"), snapshot.searchByName("seed 42"));
+        assertEquals(
+                fresh.salaryDistribution().percentiles(List.of(0.0, 25.0, 50.0, 99.0, 100.0)),
+                snapshot.salaryDistribution().percentiles(List.of(0.0, 25.0, 50.0, 99.0, 100.0)));
+        assertEquals(fresh.salaryDistribution().histogram(7), snapshot.salaryDistribution().histogram(7));
+    }
+
+    @Test
+    void nameOf_findsLiveEmployeesInColumnsAndTail() {
+        Employee seeded = employee("Seeded", 100);
+        Employee deleted = employee("Deleted", 200);
+        Employee created = employee("Created", 300);
+        RosterSnapshot snapshot = RosterSnapshot.of(1, List.of(seeded, deleted))
+                .withCreated(created)
+                .withDeleted(deleted.getId());
+
+        assertEquals("Seeded", snapshot.nameOf(seeded.getId()));
+        assertEquals("Created", snapshot.nameOf(created.getId()));
+        assertNull(snapshot.nameOf(deleted.getId()));
+        assertNull(snapshot.nameOf(UUID.randomUUID()));
+        assertEquals("Seeded", RosterSnapshot.unindexed(List.of(seeded)).nameOf(seeded.getId()));
+    }
+
+    @Test
+    void salaryStats_groupRowsAcrossColumnsAndTailSkippingDeletedAndIncomplete() {
+        List<Employee> seed = new ArrayList<>();
+        for (int salary = 1; salary <= 100; salary++) {
+            seed.add(new Employee(UUID.randomUUID(), "E" + salary, salary * 1000, 20 + salary % 30, "Engineer", null));
+        }
+        seed.add(new Employee(UUID.randomUUID(), "No salary", null, 30, "Engineer", null));
+        seed.add(new Employee(UUID.randomUUID(), "No title", 7, null, null, null));
+        RosterSnapshot snapshot = RosterSnapshot.of(1, seed)
+                .withCreated(new Employee(UUID.randomUUID(), "Chef", 42_000, 55, "Chef", null))
+                .withDeleted(seed.get(99).getId());
+
+        List<SalaryStats> byTitle = snapshot.salaryStatsByTitle();
+
+        assertEquals(List.of("Chef", "Engineer"), byTitle.stream().map(SalaryStats::getGroup).toList());
+        assertEquals(new SalaryStats("Chef", 1, 42_000, 42_000, 42_000, 42_000, 42_000, 42_000), byTitle.get(0));
+        SalaryStats engineers = byTitle.get(1);
+        assertEquals(99, engineers.getCount());
+        assertEquals(1000, engineers.getMin());
+        assertEquals(99_000, engineers.getMax());
+        assertEquals(50_000, engineers.getMean(), 1e-9);
+        assertEquals(50_000, engineers.getP50());
+        assertEquals(90_000, engineers.getP90());
+        assertEquals(99_000, engineers.getP99());
+        assertEquals(byTitle, RosterSnapshot.unindexed(snapshot.employees()).salaryStatsByTitle());
+    }
+
+    @Test
+    void salaryStatsByAgeBand_bucketsAgesByWidth() {
+        RosterSnapshot snapshot = RosterSnapshot.of(
+                1,
+                List.of(
+                        new Employee(UUID.randomUUID(), "A", 100, 29, "T", null),
+                        new Employee(UUID.randomUUID(), "B", 300, 20, "T", null),
+                        new Employee(UUID.randomUUID(), "C", 200, 30, "T", null),
+                        new Employee(UUID.randomUUID(), "D", 500, null, "T", null)));
+
+        List<SalaryStats> byAge = snapshot.salaryStatsByAgeBand(10);
+
+        assertEquals(
+                List.of(
+                        new SalaryStats("20-29", 2, 100, 300, 200, 100, 300, 300),
+                        new SalaryStats("30-39", 1, 200, 200, 200, 200, 200, 200)),
+                byAge);
+        assertEquals(byAge, RosterSnapshot.unindexed(snapshot.employees()).salaryStatsByAgeBand(10));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.salaryStatsByAgeBand(0));
+    }
+
+    @Test
+    void salaryDistribution_isExactAndFollowsCreatesAndDeletes() {
+        List<Employee> seed = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> employee("E" + i, i * 100))
+                .toList();
+        RosterSnapshot snapshot = RosterSnapshot.of(1, seed)
+                .withDeleted(seed.get(9).getId())
+                .withCreated(employee("Created", 5));
+
+        SalaryDistribution distribution = snapshot.salaryDistribution();
+
+        assertEquals(10, distribution.count());
+        assertEquals(
+                List.of(new SalaryPercentile(0, 5), new SalaryPercentile(50, 400), new SalaryPercentile(100, 900)),
+                distribution.percentiles(List.of(0.0, 50.0, 100.0)));
+        assertEquals(
+                List.of(
+                        new SalaryHistogramBucket(5, 303, 4),
+                        new SalaryHistogramBucket(304, 602, 3),
+                        new SalaryHistogramBucket(603, 900, 3)),
+                distribution.histogram(3));
+    }
+
+    @Test
+    void salaryDistribution_ofAnUnindexedRosterMergesSketchesOfParallelSlices() {
+        List<Employee> roster = IntStream.range(0, 100_000)
+                .mapToObj(i -> employee("E" + i, i % 7 == 0 ? null : 1_000 + i * 3))
+                .toList();
+        SalarySketch sequential = new SalarySketch();
+        roster.stream().map(Employee::getSalary).filter(Objects::nonNull).forEach(sequential::add);
+
+        SalaryDistribution sketched = RosterSnapshot.unindexed(roster).salaryDistribution();
+
+        List<Double> percentiles = List.of(0.0, 10.0, 50.0, 90.0, 99.9, 100.0);
+        assertEquals(sequential.count(), sketched.count());
+        assertEquals(sequential.percentiles(percentiles), sketched.percentiles(percentiles));
+        assertEquals(sequential.histogram(10), sketched.histogram(10));
+    }
+
+    @Test
+    void topNames_agreeBetweenIndexAndParallelScanIncludingTies() {
+        Random random = new Random(7);
+        // enough rows for the scan to split into several slices, with few distinct salaries so ties are common
+        List<Employee> roster = IntStream.range(0, 300_000)
+                .mapToObj(i -> {
+                    Integer salary = random.nextInt(20) == 0 ? null : random.nextInt(5_000);
+                    return new Employee(UUID.randomUUID(), "E" + i, salary, 30, null, null);
+                })
+                .toList();
+        RosterSnapshot indexed = RosterSnapshot.of(1, roster);
+        RosterSnapshot unindexed = RosterSnapshot.unindexed(roster);
+
+        for (int k : new int[] {1, 10, 1000, 70_000}) {
+            List<String> expected =
+                    TopK.highestPaid(roster, k).stream().map(Employee::getName).toList();
+            assertEquals(expected, indexed.topNames(k), "indexed k=" + k);
+            assertEquals(expected, unindexed.topNames(k), "scanned k=" + k);
+        }
+        assertEquals(List.of(), unindexed.topNames(0));
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SalarySketchTest {
+
+    private static void assertWithinAccuracy(int expected, int actual) {
+        assertEquals(expected, actual, expected * SalarySketch.RELATIVE_ACCURACY + 1, "sketched " + actual);
+    }
+
+    @Test
+    void percentile_isWithinRelativeAccuracyOfTheExactRank() {
+        Random random = new Random(42);
+        int[] salaries = new int[100_000];
+        SalarySketch sketch = new SalarySketch();
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = 20_000 + random.nextInt(480_000);
+            sketch.add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        for (double p : new double[] {0, 1, 25, 50, 90, 99, 99.9, 100}) {
+            int exact = salaries[(int) SalaryDistribution.nearestRank(p, salaries.length) - 1];
+            assertWithinAccuracy(exact, sketch.percentile(p));
+        }
+        assertEquals(salaries.length, sketch.count());
+    }
+
+    @Test
+    void merge_matchesASketchOfAllTheSalaries() {
+        SalarySketch left = new SalarySketch();
+        SalarySketch right = new SalarySketch();
+        SalarySketch expected = new SalarySketch();
+        for (int salary = 1_000; salary <= 100_000; salary += 1_000) {
+            (salary % 2000 == 0 ? left : right).add(salary);
+            expected.add(salary);
+        }
+
+        SalarySketch merged = left.merge(right);
+
+        assertEquals(100, merged.count());
+        for (double p : new double[] {1, 25, 50, 75, 99, 100}) {
+            assertEquals(expected.percentile(p), merged.percentile(p));
+        }
+        assertWithinAccuracy(50_000, merged.percentile(50));
+    }
+
+    @Test
+    void histogram_countsEverySalaryOnce() {
+        SalarySketch sketch = new SalarySketch();
+        for (int salary = 1_000; salary <= 100_000; salary += 10) {
+            sketch.add(salary);
+        }
+
+        List<SalaryHistogramBucket> histogram = sketch.histogram(10);
+
+        assertEquals(10, histogram.size());
+        assertEquals(sketch.count(), histogram.stream().mapToLong(SalaryHistogramBucket::getCount).sum());
+        assertWithinAccuracy(1_000, histogram.get(0).getFrom());
+        assertWithinAccuracy(100_000, histogram.get(9).getTo());
+    }
+}
@@ -2,19 +2,26 @@ package com.reliaquest.api.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.reliaquest.api.client.EmployeeClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.BatchResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.RosterCache;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -24,9 +31,13 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeClient client; // concrete client
 
-    @InjectMocks
     private EmployeeService service;
 
+    @BeforeEach
+    void setUp() {
+        service = new EmployeeService(client, new RosterCache(client, true));
+    }
+
     // -------- getAllEmployees --------
 
     @Test
@@ -82,6 +93,26 @@ class EmployeeServiceTest {
         assertEquals(2, service.getEmployeesByNameSearch("  ").size());
     }
 
+    @Test
+    void getEmployeesByNameSearch_fragmentAndWrites() {
+        Employee a = new Employee(UUID.randomUUID(), "Brenden Finnerty", 100, 25, "dev", "b@x");
+        Employee b = new Employee(UUID.randomUUID(), "Ada Lovelace", 200, 26, "dev", "a@x");
+        Employee c = new Employee(UUID.randomUUID(), "Glenda Brenner", 300, 27, "dev", "g@x");
+        when(client.getAllEmployees()).thenReturn(List.of(a, b));
+        when(client.createEmployee(any(CreateEmployeeInput.class))).thenReturn(c);
+        when(client.deleteEmployeeById(a.getId().toString(), "Brenden Finnerty")).thenReturn("true");
+
+        assertEquals(List.of(a), service.getEmployeesByNameSearch(" BREN "));
+        assertEquals(List.of(a, b), service.getEmployeesByNameSearch("e"));
+        assertTrue(service.getEmployeesByNameSearch("xyz").isEmpty());
+
+        service.createEmployee(new CreateEmployeeInput("Glenda Brenner", 300, 27, "dev"));
+        assertEquals(List.of(a, c), service.getEmployeesByNameSearch("bren"));
+
+        service.deleteEmployeeById(a.getId().toString());
+        assertEquals(List.of(c), service.getEmployeesByNameSearch("bren"));
+    }
+
     @Test
     void getEmployeeById_found() {
         UUID id = UUID.randomUUID();
@@ -150,6 +181,65 @@ class EmployeeServiceTest {
         assertEquals("B", names.get(0));
     }
 
+    @Test
+    void readThrough_streamsRosterThroughSinglePassAggregates() {
+        EmployeeService readThrough = new EmployeeService(client, new RosterCache(client, false));
+        List<Employee> many = new ArrayList<>();
+        IntStream.range(0, 15)
+                .forEach(i -> many.add(new Employee(UUID.randomUUID(), "E" + i, 100 + i, 30, "T", "e@x")));
+        streamRoster(many);
+
+        List<String> names = readThrough.getTopTenHighestEarningEmployeeNames();
+        assertEquals(10, names.size());
+        assertEquals("E14", names.get(0));
+        assertEquals("E5", names.get(9));
+        assertEquals(114, readThrough.getHighestSalary());
+        assertEquals(6, readThrough.getEmployeesByNameSearch("e1").size()); // E1, E10 - E14
+        verify(client, never()).getAllEmployees();
+    }
+
+    @Test
+    void readThrough_selectsTopKFromTheFetchedRoster() {
+        EmployeeService readThrough = new EmployeeService(client, new RosterCache(client, false));
+        List<Employee> many = new ArrayList<>();
+        IntStream.range(0, 15)
+                .forEach(i -> many.add(new Employee(UUID.randomUUID(), "E" + i, 100 + i, 30, "T", "e@x")));
+        when(client.getAllEmployees()).thenReturn(many);
+
+        assertEquals(List.of("E14", "E13", "E12"), readThrough.getTopHighestEarningEmployeeNames(3));
+        assertEquals(15, readThrough.getTopHighestEarningEmployeeNames(100).size());
+        verify(client, times(2)).getAllEmployees();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamRoster(List<Employee> employees) {
+        doAnswer(invocation -> {
+                    employees.forEach(invocation.getArgument(0, Consumer.class));
+                    return null;
+                })
+                .when(client)
+                .forEachEmployee(any());
+    }
+
+    @Test
+    void topTenHighestEarningEmployeeNames_reflectsWritesWithoutRefetch() {
+        Employee a = new Employee(UUID.randomUUID(), "A", 100, 25, "X", "a@x");
+        Employee b = new Employee(UUID.randomUUID(), "B", 200, 26, "Y", "b@y");
+        Employee c = new Employee(UUID.randomUUID(), "C", 300, 27, "Z", "c@z");
+        when(client.getAllEmployees()).thenReturn(List.of(a, b));
+        when(client.createEmployee(any(CreateEmployeeInput.class))).thenReturn(c);
+        when(client.deleteEmployeeById(c.getId().toString(), "C")).thenReturn("true");
+        assertEquals(List.of("B", "A"), service.getTopTenHighestEarningEmployeeNames());
+
+        service.createEmployee(new CreateEmployeeInput("C", 300, 27, "Z"));
+        assertEquals(List.of("C", "B", "A"), service.getTopTenHighestEarningEmployeeNames());
+        assertEquals(300, service.getHighestSalary());
+
+        service.deleteEmployeeById(c.getId().toString());
+        assertEquals(List.of("B", "A"), service.getTopTenHighestEarningEmployeeNames());
+        assertEquals(200, service.getHighestSalary());
+    }
+
     // -------- createEmployee --------
 
     @Test
@@ -186,9 +276,43 @@ class EmployeeServiceTest {
     @Test
     void deleteEmployeeById_happyPath_returnsConfirmation() {
         UUID id = UUID.randomUUID();
-        when(client.deleteEmployeeById(id.toString())).thenReturn(id.toString());
+        when(client.deleteEmployeeById(id.toString(), null)).thenReturn("true");
 
         String result = service.deleteEmployeeById(id.toString());
         assertEquals(id.toString(), result);
     }
+
+    @Test
+    void deleteEmployeeById_unconfirmedUpstream_throwsAndKeepsEmployeeInRoster() {
+        Employee existing = new Employee(UUID.randomUUID(), "Brenden", 120000, 30, "Dev", "b@example.com");
+        String id = existing.getId().toString();
+        when(client.getAllEmployees()).thenReturn(List.of(existing));
+        when(client.deleteEmployeeById(id, null)).thenReturn(null).thenReturn("false");
+
+        assertThrows(EmployeeNotFoundException.class, () -> service.deleteEmployeeById(id));
+        assertThrows(EmployeeNotFoundException.class, () -> service.deleteEmployeeById(id));
+        assertEquals(List.of(existing), service.getAllEmployees());
+    }
+
+    // -------- batches --------
+
+    @Test
+    void batches_applyOnlySuccessfulItemsToRoster() {
+        Employee existing = new Employee(UUID.randomUUID(), "Brenden", 120000, 30, "Dev", "b@example.com");
+        Employee hired = new Employee(UUID.randomUUID(), "Finnerty", 130000, 31, "Sr Dev", "f@example.com");
+        List<CreateEmployeeInput> inputs =
+                List.of(new CreateEmployeeInput("Finnerty", 130000, 31, "Sr Dev"), new CreateEmployeeInput());
+        List<String> ids = List.of(existing.getId().toString(), "unknown");
+        when(client.getAllEmployees()).thenReturn(List.of(existing));
+        when(client.createEmployees(inputs))
+                .thenReturn(List.of(BatchResult.applied(hired), BatchResult.rejected("name must not be blank")));
+        when(client.deleteEmployeesById(eq(ids), any()))
+                .thenReturn(List.of(BatchResult.applied(ids.get(0)), BatchResult.rejected("Employee not found")));
+
+        service.getAllEmployees();
+        assertEquals("name must not be blank", service.createEmployees(inputs).get(1).getError());
+        assertEquals(ids.get(0), service.deleteEmployeesById(ids).get(0).getData());
+
+        assertEquals(List.of(hired), service.getAllEmployees());
+    }
 }
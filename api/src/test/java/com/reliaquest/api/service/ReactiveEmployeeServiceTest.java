@@ -0,0 +1,151 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.EmployeeClient;
+import com.reliaquest.api.client.ReactiveEmployeeClient;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.BatchResult;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.RosterCache;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple4;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEmployeeServiceTest {
+
+    @Mock
+    private ReactiveEmployeeClient client;
+
+    @Mock
+    private EmployeeClient blockingClient; // only used by the cache's scheduled refresh
+
+    private ReactiveEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveEmployeeService(client, new RosterCache(blockingClient, true));
+    }
+
+    @Test
+    void reads_loadRosterOnceThenServeFromCache() {
+        Employee low = new Employee(UUID.randomUUID(), "Alice", 100, 30, "Dev", "a@example.com");
+        Employee high = new Employee(UUID.randomUUID(), "Bob", 300, 40, "Lead", "b@example.com");
+        when(client.getAllEmployees()).thenReturn(Mono.just(List.of(low, high)));
+
+        assertEquals(2, service.getAllEmployees().block().size());
+        assertEquals(300, service.getHighestSalary().block());
+        assertEquals(List.of("Bob", "Alice"), service.getTopTenHighestEarningEmployeeNames().block());
+        assertEquals(List.of(low), service.getEmployeesByNameSearch("ali").block());
+
+        verify(client, times(1)).getAllEmployees();
+        verify(blockingClient, never()).getAllEmployees();
+    }
+
+    @Test
+    void reads_againstAColdCacheShareOneUpstreamLoad() {
+        Employee alice = new Employee(UUID.randomUUID(), "Alice", 100, 30, "Dev", "a@example.com");
+        when(client.getAllEmployees())
+                .thenReturn(Mono.delay(Duration.ofMillis(100)).thenReturn(List.of(alice)));
+
+        List<Object> answers = Mono.zip(
+                        service.getAllEmployees(),
+                        service.getHighestSalary(),
+                        service.getTopTenHighestEarningEmployeeNames(),
+                        service.getEmployeesByNameSearch("ali"))
+                .map(Tuple4::toList)
+                .block();
+
+        assertEquals(List.of(List.of(alice), 100, List.of("Alice"), List.of(alice)), answers);
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void reads_retryTheLoadAfterItFails() {
+        Employee alice = new Employee(UUID.randomUUID(), "Alice", 100, 30, "Dev", "a@example.com");
+        when(client.getAllEmployees())
+                .thenReturn(Mono.error(new IllegalStateException("upstream down")))
+                .thenReturn(Mono.just(List.of(alice)));
+
+        assertThrows(IllegalStateException.class, () -> service.getAllEmployees().block());
+        assertEquals(List.of(alice), service.getAllEmployees().block());
+        verify(client, times(2)).getAllEmployees();
+    }
+
+    @Test
+    void getEmployeeById_emptyMapsToNotFound() {
+        when(client.getEmployeeById("nope")).thenReturn(Mono.empty());
+
+        assertThrows(EmployeeNotFoundException.class, () -> service.getEmployeeById("nope").block());
+    }
+
+    @Test
+    void writes_areAppliedToCachedRoster() {
+        Employee existing = new Employee(UUID.randomUUID(), "Alice", 100, 30, "Dev", "a@example.com");
+        Employee created = new Employee(UUID.randomUUID(), "Carol", 500, 35, "CTO", "c@example.com");
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        when(client.getAllEmployees()).thenReturn(Mono.just(List.of(existing)));
+        when(client.createEmployee(input)).thenReturn(Mono.just(created));
+        when(client.deleteEmployeeById(existing.getId().toString(), "Alice")).thenReturn(Mono.just("true"));
+
+        service.getAllEmployees().block();
+        assertEquals(created, service.createEmployee(input).block());
+        assertEquals(existing.getId().toString(), service.deleteEmployeeById(existing.getId().toString()).block());
+
+        assertEquals(List.of(created), service.getAllEmployees().block());
+        verify(client, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void deleteEmployeeById_unconfirmedUpstreamMapsToNotFoundAndKeepsRoster() {
+        Employee existing = new Employee(UUID.randomUUID(), "Alice", 100, 30, "Dev", "a@example.com");
+        String id = existing.getId().toString();
+        when(client.getAllEmployees()).thenReturn(Mono.just(List.of(existing)));
+        when(client.deleteEmployeeById(id, "Alice")).thenReturn(Mono.empty()).thenReturn(Mono.just("false"));
+
+        service.getAllEmployees().block();
+        assertThrows(EmployeeNotFoundException.class, () -> service.deleteEmployeeById(id).block());
+        assertThrows(EmployeeNotFoundException.class, () -> service.deleteEmployeeById(id).block());
+
+        assertEquals(List.of(existing), service.getAllEmployees().block());
+    }
+
+    @Test
+    void batchWrites_applyOnlyWhatUpstreamAccepted() {
+        Employee existing = new Employee(UUID.randomUUID(), "Alice", 100, 30, "Dev", "a@example.com");
+        Employee created = new Employee(UUID.randomUUID(), "Carol", 500, 35, "CTO", "c@example.com");
+        List<CreateEmployeeInput> inputs = List.of(new CreateEmployeeInput(), new CreateEmployeeInput());
+        List<BatchResult<Employee>> createdResults =
+                List.of(BatchResult.applied(created), BatchResult.rejected("invalid input"));
+        String missing = UUID.randomUUID().toString();
+        List<String> ids = List.of(existing.getId().toString(), missing);
+        List<BatchResult<String>> deletedResults = List.of(
+                BatchResult.applied(existing.getId().toString()),
+                BatchResult.rejected("Employee not found: " + missing));
+        when(client.getAllEmployees()).thenReturn(Mono.just(List.of(existing)));
+        when(client.createEmployees(inputs)).thenReturn(Mono.just(createdResults));
+        when(client.deleteEmployeesById(eq(ids), any())).thenReturn(Mono.just(deletedResults));
+
+        service.getAllEmployees().block();
+        assertEquals(createdResults, service.createEmployees(inputs).block());
+        assertEquals(deletedResults, service.deleteEmployeesById(ids).block());
+
+        assertEquals(List.of(created), service.getAllEmployees().block());
+        verify(client, times(1)).getAllEmployees();
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.RosterCache;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Read paths of {@link EmployeeService}, served from a loaded roster cache, next to the same queries answered by
+ * scanning an unindexed snapshot (what the cache-disabled mode does once the roster has been fetched).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    // a surname fragment (about 1 in 20 names) and a full name (about 1 in 400)
+    @Param({"nov", "jill jenkins"})
+    String fragment;
+
+    private EmployeeService service;
+    private RosterSnapshot unindexed;
+
+    @Setup
+    public void setUp() {
+        List<Employee> roster = Rosters.employees(rosterSize);
+        RosterCache cache = new RosterCache(null, true);
+        try (RosterCache.InitialLoad load = cache.beginLoad()) {
+            load.install(roster);
+        }
+        // only the cached read paths are exercised, and they never reach the client
+        service = new EmployeeService(null, cache);
+        unindexed = RosterSnapshot.unindexed(roster);
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return service.getEmployeesByNameSearch(fragment);
+    }
+
+    @Benchmark
+    public Integer getHighestSalary() {
+        return service.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return service.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<Employee> scan_searchByName() {
+        return unindexed.searchByName(fragment);
+    }
+
+    @Benchmark
+    public Integer scan_highestSalary() {
+        return unindexed.highestSalary();
+    }
+
+    @Benchmark
+    public List<String> scan_topTenNames() {
+        return unindexed.topTenNames();
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JSON (de)serialization of whole rosters, with an {@link ObjectMapper} configured the way Spring Boot configures the
+ * apps' one. {@code writeMockEmployees} is the mock server answering a listing and {@code readMockRosterAsEmployees}
+ * is the api's client parsing it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonBenchmark {
+
+    private static final TypeReference<List<Employee>> EMPLOYEES = new TypeReference<>() {};
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Employee> employees;
+    private List<MockEmployee> mockEmployees;
+    private byte[] employeesJson;
+    private byte[] mockEmployeesJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        employees = Rosters.employees(rosterSize);
+        mockEmployees = Rosters.mockEmployees(rosterSize);
+        employeesJson = objectMapper.writeValueAsBytes(employees);
+        mockEmployeesJson = objectMapper.writeValueAsBytes(mockEmployees);
+    }
+
+    @Benchmark
+    public byte[] writeEmployees() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<Employee> readEmployees() throws IOException {
+        return objectMapper.readValue(employeesJson, EMPLOYEES);
+    }
+
+    @Benchmark
+    public byte[] writeMockEmployees() throws IOException {
+        return objectMapper.writeValueAsBytes(mockEmployees);
+    }
+
+    @Benchmark
+    public List<Employee> readMockRosterAsEmployees() throws IOException {
+        return objectMapper.readValue(mockEmployeesJson, EMPLOYEES);
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * {@link MockEmployeeService} lookups and writes against a store of the given size. The store is rebuilt for every
+ * iteration so creates don't accumulate across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    int rosterSize;
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+    private final DeleteMockEmployeeInput deleteInput = new DeleteMockEmployeeInput();
+    private UUID[] ids;
+    private MockEmployeeService service;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpInputs() {
+        ids = Rosters.mockEmployees(rosterSize).stream().map(MockEmployee::getId).toArray(UUID[]::new);
+        input.setName("Bench Hire");
+        input.setSalary(100_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        deleteInput.setName(input.getName());
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpStore() {
+        List<MockEmployee> roster = Rosters.mockEmployees(rosterSize);
+        service = new MockEmployeeService(
+                new Faker(new Random(42)), new MockEmployeeStore(roster), validatorFactory.getValidator());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        next = (next + 1) % ids.length;
+        return service.findById(ids[next]);
+    }
+
+    @Benchmark
+    public MockEmployee create() {
+        return service.create(input);
+    }
+
+    // delete needs something to remove, so it is measured together with the create that provides it
+    @Benchmark
+    public boolean createThenDelete() {
+        service.create(input);
+        return service.delete(deleteInput);
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters for the benchmarks. The same size always yields the same employees, so runs are comparable.
+ */
+final class Rosters {
+
+    static final String[] FIRST_NAMES = {
+        "Ada", "Brenden", "Chen", "Dana", "Elif", "Farah", "Gus", "Hana", "Ivan", "Jill", "Kofi", "Lena", "Mateo",
+        "Nia", "Omar", "Priya", "Quinn", "Rosa", "Sven", "Tariq"
+    };
+    static final String[] LAST_NAMES = {
+        "Smith", "Nixon", "Jenkins", "Okafor", "Kowalski", "Haddad", "Tanaka", "Moreau", "Silva", "Novak", "Larsen",
+        "Finnerty", "Ibrahim", "Rossi", "Schmidt", "Nguyen", "Petrov", "Walsh", "Castillo", "Bauer"
+    };
+    static final String[] TITLES = {"Engineer", "Sr Engineer", "Manager", "Director", "Analyst", "Designer"};
+
+    private Rosters() {}
+
+    static List<Employee> employees(int size) {
+        Random random = new Random(size);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = name(random);
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    name,
+                    30_000 + random.nextInt(470_000),
+                    18 + random.nextInt(50),
+                    TITLES[random.nextInt(TITLES.length)],
+                    email(name, i)));
+        }
+        return employees;
+    }
+
+    static List<MockEmployee> mockEmployees(int size) {
+        return employees(size).stream()
+                .map(e -> new MockEmployee(
+                        e.getId(), e.getName(), e.getSalary(), e.getAge(), e.getTitle(), e.getEmail()))
+                .toList();
+    }
+
+    private static String name(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static String email(String name, int i) {
+        return name.toLowerCase().replace(' ', '.') + i + "@company.com";
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.api.roster.TopK;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Names of the top {@code k} earners, three ways: read from the salary index of an indexed snapshot (the cached path),
+ * selected by the fork-join scan of an unindexed snapshot, and by the sequential {@link TopK} heap that streams the
+ * roster for the top ten when the cache is disabled. The scan should scale with the cores of the common pool above its
+ * slice size of 64K rows, and match the sequential heap below it, where it doesn't fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Xmx8g") // five million employees are a few GB as objects
+public class TopKBenchmark {
+
+    @Param({"10000", "1000000", "5000000"})
+    int rosterSize;
+
+    @Param({"10", "100", "1000"})
+    int k;
+
+    private List<Employee> roster;
+    private RosterSnapshot indexed;
+    private RosterSnapshot unindexed;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.employees(rosterSize);
+        indexed = RosterSnapshot.of(1, roster);
+        unindexed = RosterSnapshot.unindexed(roster);
+    }
+
+    @Benchmark
+    public List<String> indexed_topNames() {
+        return indexed.topNames(k);
+    }
+
+    @Benchmark
+    public List<String> parallelScan_topNames() {
+        return unindexed.topNames(k);
+    }
+
+    @Benchmark
+    public List<Employee> sequentialHeap_highestPaid() {
+        return TopK.highestPaid(roster, k);
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.common.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free string dictionary for low-cardinality values such as job titles, so a roster holding a million
+ * employees shares a few hundred title strings instead of a million copies.
+ * <p>
+ * Strings live in an open-addressed table that is probed a few slots from the string's hash. A value found there is
+ * returned as the canonical instance; a new value is claimed into the first empty slot with a compare-and-set. When the
+ * probed slots are all taken by other values the string is simply returned uninterned, so a field that turns out not to
+ * be low-cardinality can never grow the dictionary past its capacity.
+ * </p>
+ * <p>
+ * {@link #intern(char[], int, int)} looks a value up straight from a parser's character buffer, so a hit allocates
+ * nothing at all.
+ * </p>
+ */
+public final class BoundedInterner {
+
+    private static final int MAX_PROBES = 8;
+
+    private final AtomicReferenceArray<String> table;
+    private final int mask;
+    private final int shift;
+
+    /**
+     * @param capacity maximum number of distinct strings to keep, rounded up to a power of two
+     */
+    public BoundedInterner(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, MAX_PROBES) - 1) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.shift = Integer.numberOfLeadingZeros(size) + 1;
+    }
+
+    /**
+     * @return the canonical instance equal to {@code value}, or {@code value} itself if it is new or the dictionary has
+     *     no room for it
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = spread(value.hashCode());
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (hash + probe) & mask;
+            String existing = table.get(slot);
+            if (existing == null) {
+                existing = table.compareAndExchange(slot, null, value);
+                if (existing == null) {
+                    return value;
+                }
+            }
+            if (existing.equals(value)) {
+                return existing;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #intern(String)} for the chars {@code chars[offset, offset + length)}, only allocating a string
+     * if the value isn't in the dictionary yet.
+     */
+    public String intern(char[] chars, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + chars[i];
+        }
+        int hash = spread(h);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (hash + probe) & mask;
+            String existing = table.get(slot);
+            if (existing == null) {
+                String value = new String(chars, offset, length);
+                existing = table.compareAndExchange(slot, null, value);
+                if (existing == null) {
+                    return value;
+                }
+            }
+            if (matches(existing, chars, offset, length)) {
+                return existing;
+            }
+        }
+        return new String(chars, offset, length);
+    }
+
+    /**
+     * @return number of strings in the dictionary
+     */
+    public int size() {
+        int size = 0;
+        for (int slot = 0; slot < table.length(); slot++) {
+            if (table.get(slot) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static boolean matches(String value, char[] chars, int offset, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Fibonacci hashing of String#hashCode: similar strings ("Engineer I", "Engineer II") have nearby hash codes, which
+     * would otherwise pile up in neighbouring slots and exhaust each other's probes.
+     */
+    private int spread(int hash) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+}
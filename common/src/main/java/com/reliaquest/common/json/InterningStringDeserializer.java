@@ -0,0 +1,35 @@
+package com.reliaquest.common.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import java.io.IOException;
+
+/**
+ * Deserializes low-cardinality string fields (job titles) through a shared {@link BoundedInterner}, so every employee
+ * with the same title references one string instead of its own copy, and a repeated title is looked up straight from
+ * the parser's buffer without allocating. Shared by the server's {@code MockEmployee} and the api's {@code Employee}.
+ */
+public class InterningStringDeserializer extends StdScalarDeserializer<String> {
+
+    /**
+     * Dictionary shared by every interned field; ample for Datafaker's job titles, and bounded if a field has more
+     * distinct values than expected.
+     */
+    public static final BoundedInterner DICTIONARY = new BoundedInterner(8192);
+
+    public InterningStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return DICTIONARY.intern(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        // numbers, booleans and other coercions
+        return DICTIONARY.intern(StringDeserializer.instance.deserialize(p, ctxt));
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.common.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+class BoundedInternerTest {
+
+    @Test
+    void intern_returnsOneInstancePerValue() {
+        BoundedInterner interner = new BoundedInterner(64);
+        String first = interner.intern(new String("Financial Advisor"));
+        char[] buffer = "xxFinancial Advisorxx".toCharArray();
+
+        assertSame(first, interner.intern(new String("Financial Advisor")));
+        assertSame(first, interner.intern(buffer, 2, "Financial Advisor".length()));
+        assertNotSame(first, interner.intern(new String("Financial Analyst")));
+        assertNull(interner.intern(null));
+    }
+
+    @Test
+    void intern_neverGrowsPastCapacity() {
+        BoundedInterner interner = new BoundedInterner(16);
+
+        for (int i = 0; i < 1_000; i++) {
+            String value = "title " + i;
+            assertEquals(value, interner.intern(value));
+            assertEquals(value, interner.intern(value.toCharArray(), 0, value.length()));
+        }
+
+        assertEquals(16, interner.size());
+    }
+
+    @Test
+    void deserializer_internsTitles() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        String json = "{\"name\":\"Jill\",\"title\":\"Site Reliability Engineer\"}";
+
+        Titled first = mapper.readValue(json, Titled.class);
+        Titled second = mapper.readValue(json, Titled.class);
+
+        assertEquals("Site Reliability Engineer", first.getTitle());
+        assertSame(first.getTitle(), second.getTitle());
+    }
+
+    @Data
+    static class Titled {
+        private String name;
+
+        @JsonDeserialize(using = InterningStringDeserializer.class)
+        private String title;
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ids and names the generator knows to exist, to address get-by-id, search and delete requests at. Deletes only take
+ * ids this run created, so the seeded roster stays intact, lookups never race a delete, and runs stay comparable.
+ */
+final class IdPool {
+
+    private final List<String> rosterIds = new ArrayList<>();
+    private final List<String> rosterNames = new ArrayList<>();
+    private final List<String> createdIds = new ArrayList<>();
+
+    synchronized void addRoster(String id, String name) {
+        rosterIds.add(id);
+        if (name != null) {
+            rosterNames.add(name);
+        }
+    }
+
+    synchronized void addCreated(String id) {
+        createdIds.add(id);
+    }
+
+    /**
+     * @return the id of a seeded employee, which no request of the run deletes, or {@code null} if none is known
+     */
+    synchronized String anyRosterId(RandomGenerator random) {
+        return rosterIds.isEmpty() ? null : rosterIds.get(random.nextInt(rosterIds.size()));
+    }
+
+    /**
+     * @return a fragment of a roster name, e.g. a first name, for search requests
+     */
+    synchronized String anyNameFragment(RandomGenerator random) {
+        if (rosterNames.isEmpty()) {
+            return "a";
+        }
+        String name = rosterNames.get(random.nextInt(rosterNames.size()));
+        int space = name.indexOf(' ');
+        return space > 0 ? name.substring(0, space) : name;
+    }
+
+    /**
+     * Removes and returns an id this run created, or {@code null} if there is none left.
+     */
+    synchronized String takeCreated(RandomGenerator random) {
+        if (createdIds.isEmpty()) {
+            return null;
+        }
+        int pick = random.nextInt(createdIds.size());
+        String id = createdIds.get(pick);
+        createdIds.set(pick, createdIds.get(createdIds.size() - 1));
+        createdIds.remove(createdIds.size() - 1);
+        return id;
+    }
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open-loop load generator: requests are scheduled at a fixed rate and sent asynchronously, so a slow response never
+ * delays the next request. Each latency is measured from the request's scheduled send time.
+ */
+@Slf4j
+final class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final String base;
+    private final IdPool ids;
+    private final TrafficMix mix;
+    private final SplittableRandom random;
+    private final AtomicLong hires = new AtomicLong();
+
+    LoadGenerator(HttpClient http, ObjectMapper objectMapper, String base, IdPool ids, TrafficMix mix, long seed) {
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.base = base;
+        this.ids = ids;
+        this.mix = mix;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Sends {@code rps} requests per second for the given duration, then waits for the outstanding ones.
+     *
+     * @return per-operation statistics of the run
+     */
+    Result run(int rps, Duration duration) throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        AtomicLong pending = new AtomicLong();
+        long scheduled = duration.toNanos() * rps / TimeUnit.SECONDS.toNanos(1);
+        long start = System.nanoTime();
+        for (long i = 0; i < scheduled; i++) {
+            long intended = start + (long) (i * (double) TimeUnit.SECONDS.toNanos(1) / rps);
+            for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = mix.next(random);
+            String deleteId = operation == Operation.DELETE ? ids.takeCreated(random) : null;
+            if (operation == Operation.DELETE && deleteId == null) {
+                // nothing created yet to delete; keep the rate by sending a lookup instead
+                operation = Operation.GET_BY_ID;
+            }
+            Operation sent = operation;
+            HttpRequest request = request(sent, deleteId);
+            pending.incrementAndGet();
+            http.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                int status = response == null ? 0 : response.statusCode();
+                stats.get(sent).record(System.nanoTime() - intended, status);
+                if (sent == Operation.CREATE && status == 200) {
+                    rememberCreated(response.body());
+                }
+                pending.decrementAndGet();
+            });
+        }
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (pending.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        if (pending.get() > 0) {
+            log.warn("{} requests still outstanding after {}, left out of the report", pending, DRAIN_TIMEOUT);
+        }
+        return new Result(stats, scheduled, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private HttpRequest request(Operation operation, String deleteId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (operation) {
+            case LIST -> request.uri(URI.create(base)).GET().build();
+            case SEARCH -> request.uri(URI.create(base + "/search/"
+                            + URLEncoder.encode(ids.anyNameFragment(random), StandardCharsets.UTF_8)
+                                    .replace("+", "%20")))
+                    .GET()
+                    .build();
+            case GET_BY_ID -> request.uri(URI.create(base + "/" + ids.anyRosterId(random)))
+                    .GET()
+                    .build();
+            case HIGHEST_SALARY -> request.uri(URI.create(base + "/highestSalary"))
+                    .GET()
+                    .build();
+            case TOP_TEN -> request.uri(URI.create(base + "/topTenHighestEarningEmployeeNames"))
+                    .GET()
+                    .build();
+            case CREATE -> request.uri(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(newHire()))
+                    .build();
+            case DELETE -> request.uri(URI.create(base + "/" + deleteId))
+                    .DELETE()
+                    .build();
+        };
+    }
+
+    private String newHire() {
+        long n = hires.incrementAndGet();
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "name", "Load Test " + n,
+                    "salary", 30_000 + random.nextInt(470_000),
+                    "age", 18 + random.nextInt(50),
+                    "title", "Load Tester"));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            String id = objectMapper.readTree(body).path("id").asText(null);
+            if (id != null) {
+                ids.addCreated(id);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable create response: {}", body);
+        }
+    }
+
+    /**
+     * @param stats     per-operation statistics
+     * @param scheduled number of requests the run was scheduled to send
+     * @param elapsed   time from the first send to the last response
+     */
+    record Result(Map<Operation, OperationStats> stats, long scheduled, Duration elapsed) {}
+}
@@ -0,0 +1,153 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end load test: boots the mock server and the api in this JVM, drives the api at a fixed request rate with a
+ * configurable mix of operations, and reports throughput, latency percentiles and upstream traffic.
+ * <p>
+ * The mock server's roster is generated from a fixed seed and its rate limiter is either off or pinned to a given
+ * limit, so two runs with the same options see the same data and the same upstream behavior. With {@code --threads=both} the
+ * whole test runs once on platform threads and once on virtual threads and the two are compared.
+ * </p>
+ * <p>
+ * Neither app reads its own {@code application.yml} here (both would be on this classpath under the same name); they
+ * use {@code loadtest-server.yml} and {@code loadtest-api.yml} instead.
+ * </p>
+ */
+@Slf4j
+public final class LoadTest {
+
+    private static final int API_PORT = 8111;
+    private static final String API_BASE = "http://localhost:" + API_PORT + "/api/v2/employee";
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        List<String> threadModels =
+                options.threads().equals("both") ? List.of("platform", "virtual") : List.of(options.threads());
+        if (threadModels.contains("virtual") && Runtime.version().feature() < 21) {
+            log.warn("Virtual threads need Java 21; running on Java {}, so 'virtual' runs use platform threads",
+                    Runtime.version().feature());
+        }
+
+        List<LoadTestReport.Run> runs = new ArrayList<>();
+        for (String threads : threadModels) {
+            runs.add(run(options, threads));
+        }
+        String report = LoadTestReport.format(options, runs);
+        System.out.println(report);
+        if (options.report() != null) {
+            Files.writeString(options.report(), report);
+        }
+        System.exit(0);
+    }
+
+    private static LoadTestReport.Run run(LoadTestOptions options, String threads) throws Exception {
+        boolean virtual = threads.equals("virtual");
+        UpstreamCallCounter upstream = new UpstreamCallCounter();
+        ExecutorService clientExecutor = Executors.newCachedThreadPool();
+        try (ConfigurableApplicationContext server = startServer(options, virtual, upstream);
+                ConfigurableApplicationContext api = startApi(options, virtual)) {
+            HttpClient http = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            ObjectMapper objectMapper = new ObjectMapper();
+            IdPool ids = loadRoster(http, objectMapper);
+            LoadGenerator generator =
+                    new LoadGenerator(http, objectMapper, API_BASE, ids, options.mix(), options.seed());
+
+            log.info("Warming up for {} ({} threads)", options.warmup(), threads);
+            generator.run(options.rps(), options.warmup());
+            upstream.reset();
+            log.info("Measuring for {} at {} req/s ({} threads)", options.duration(), options.rps(), threads);
+            LoadGenerator.Result result = generator.run(options.rps(), options.duration());
+            return new LoadTestReport.Run(threads, result, upstream.calls(), upstream.throttled());
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static ConfigurableApplicationContext startServer(
+            LoadTestOptions options, boolean virtual, UpstreamCallCounter upstream) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.config.name", "loadtest-server");
+        properties.put("spring.threads.virtual.enabled", virtual);
+        properties.put("mock.employees.max", options.employees());
+        properties.put("mock.faker.seed", options.seed());
+        properties.put("mock.rate-limit.enabled", options.upstreamLimit() > 0);
+        properties.put("mock.rate-limit.requests", options.upstreamLimit());
+        properties.put("mock.rate-limit.backoff", options.upstreamBackoff().toString());
+        return new SpringApplicationBuilder(ServerApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(properties)
+                .initializers(context -> context.getBeanFactory().registerSingleton("upstreamCallCounter", upstream))
+                .run(asArgs(options.serverProperties()));
+    }
+
+    private static ConfigurableApplicationContext startApi(LoadTestOptions options, boolean virtual) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.config.name", "loadtest-api");
+        properties.put("spring.threads.virtual.enabled", virtual);
+        properties.put("server.port", API_PORT);
+        properties.put("employee.api.mode", options.apiMode());
+        return new SpringApplicationBuilder(ApiApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(properties)
+                .run(asArgs(options.apiProperties()));
+    }
+
+    // passed as command line arguments so they take precedence over the loadtest-*.yml files
+    private static String[] asArgs(Map<String, String> properties) {
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    /*
+     * Reads the seeded roster through the api, which also loads its roster cache before anything is measured.
+     */
+    private static IdPool loadRoster(HttpClient http, ObjectMapper objectMapper)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(
+                HttpRequest.newBuilder(URI.create(API_BASE)).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Could not read the roster: HTTP " + response.statusCode());
+        }
+        IdPool ids = new IdPool();
+        for (JsonNode employee : objectMapper.readTree(response.body())) {
+            ids.addRoster(employee.path("id").asText(), employee.path("name").asText(null));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options of {@link LoadTest}, given as {@code --name=value}.
+ *
+ * @param rps             requests per second the generator sends, regardless of how fast responses come back
+ * @param duration        length of the measured run
+ * @param warmup          length of the unmeasured run before it
+ * @param mix             relative weights of the operations
+ * @param seed            seed for the mock server's roster and for the generator's choices
+ * @param employees       size of the mock server's roster
+ * @param threads         {@code platform}, {@code virtual}, or {@code both} to run once with each and compare
+ * @param apiMode         {@code employee.api.mode} of the api: {@code blocking} or {@code reactive}
+ * @param upstreamLimit   requests the mock server allows before backing off, or 0 to never rate limit
+ * @param upstreamBackoff how long the mock server rejects requests once the limit is hit
+ * @param report          file to also write the report to, if any
+ * @param apiProperties    extra Spring properties for the api, given as {@code --api.<property>=value}
+ * @param serverProperties extra Spring properties for the mock server, given as {@code --mock-server.<property>=value}
+ */
+record LoadTestOptions(
+        int rps,
+        Duration duration,
+        Duration warmup,
+        TrafficMix mix,
+        long seed,
+        int employees,
+        String threads,
+        String apiMode,
+        int upstreamLimit,
+        Duration upstreamBackoff,
+        Path report,
+        Map<String, String> apiProperties,
+        Map<String, String> serverProperties) {
+
+    static final String API_PREFIX = "api.";
+    static final String SERVER_PREFIX = "mock-server.";
+    private static final Set<String> OPTIONS = Set.of(
+            "rps",
+            "duration",
+            "warmup",
+            "mix",
+            "seed",
+            "employees",
+            "threads",
+            "api-mode",
+            "upstream-limit",
+            "upstream-backoff",
+            "report");
+
+    static final String USAGE = """
+            Options (all optional, as --name=value):
+              --rps=100                  requests per second, sent open-loop
+              --duration=PT30S           measured run
+              --warmup=PT10S             unmeasured run before it
+              --mix=list:5,search:25,byId:25,highestSalary:10,topTen:10,create:15,delete:10
+              --seed=42                  seed for the roster and the generator
+              --employees=1000           roster size of the mock server
+              --threads=platform         platform | virtual | both (virtual needs Java 21)
+              --api-mode=blocking        blocking | reactive
+              --upstream-limit=0         mock server requests before 429s, 0 = never
+              --upstream-backoff=PT30S   mock server backoff once the limit is hit
+              --report=<file>            also write the report to this file
+              --api.<property>=<value>   Spring property for the api, e.g. --api.employee.roster.cache-enabled=false
+              --mock-server.<property>=<value>
+                                         Spring property for the mock server
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, String> apiProperties = new HashMap<>();
+        Map<String, String> serverProperties = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (name.startsWith(API_PREFIX)) {
+                apiProperties.put(name.substring(API_PREFIX.length()), value);
+            } else if (name.startsWith(SERVER_PREFIX)) {
+                serverProperties.put(name.substring(SERVER_PREFIX.length()), value);
+            } else if (OPTIONS.contains(name)) {
+                values.put(name, value);
+            } else {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rps", "100")),
+                Duration.parse(values.getOrDefault("duration", "PT30S")),
+                Duration.parse(values.getOrDefault("warmup", "PT10S")),
+                TrafficMix.parse(values.getOrDefault(
+                        "mix", "list:5,search:25,byId:25,highestSalary:10,topTen:10,create:15,delete:10")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("employees", "1000")),
+                values.getOrDefault("threads", "platform"),
+                values.getOrDefault("api-mode", "blocking"),
+                Integer.parseInt(values.getOrDefault("upstream-limit", "0")),
+                Duration.parse(values.getOrDefault("upstream-backoff", "PT30S")),
+                values.containsKey("report") ? Path.of(values.get("report")) : null,
+                apiProperties,
+                serverProperties);
+        if (options.rps < 1) {
+            throw new IllegalArgumentException("rps must be positive");
+        }
+        if (!options.threads.matches("platform|virtual|both")) {
+            throw new IllegalArgumentException("threads must be platform, virtual or both");
+        }
+        if (!options.apiMode.matches("blocking|reactive")) {
+            throw new IllegalArgumentException("api-mode must be blocking or reactive");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,132 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Plain-text report of one or more load test runs.
+ */
+final class LoadTestReport {
+
+    private static final String HEADER = String.format(
+            Locale.ROOT,
+            "%-14s %9s %9s %7s %7s %10s %10s %10s %10s%n",
+            "operation",
+            "count",
+            "ok",
+            "429",
+            "error",
+            "p50 ms",
+            "p99 ms",
+            "p99.9 ms",
+            "max ms");
+    private static final String VALUES = "%-14s %9d %9d %7d %7d %10.2f %10.2f %10.2f %10.2f%n";
+
+    private LoadTestReport() {}
+
+    /**
+     * One measured run.
+     *
+     * @param threads           thread model both apps ran with
+     * @param result            what the generator measured
+     * @param upstreamCalls     requests the mock server received during the run
+     * @param upstreamThrottled of those, the ones it answered with 429
+     */
+    record Run(String threads, LoadGenerator.Result result, long upstreamCalls, long upstreamThrottled) {
+
+        OperationStats total() {
+            OperationStats total = new OperationStats();
+            result.stats().values().forEach(stats -> stats.addTo(total));
+            return total;
+        }
+
+        double throughput() {
+            return total().count() / seconds(result.elapsed());
+        }
+    }
+
+    static String format(LoadTestOptions options, List<Run> runs) {
+        StringBuilder report = new StringBuilder();
+        for (Run run : runs) {
+            report.append(format(options, run)).append(System.lineSeparator());
+        }
+        if (runs.size() == 2) {
+            Run platform = runs.get(0);
+            Run virtual = runs.get(1);
+            report.append(String.format(
+                    Locale.ROOT,
+                    "%s vs %s: throughput %.1f vs %.1f req/s, p99 %.2f vs %.2f ms, p99.9 %.2f vs %.2f ms%n",
+                    virtual.threads(),
+                    platform.threads(),
+                    virtual.throughput(),
+                    platform.throughput(),
+                    virtual.total().percentileMillis(99),
+                    platform.total().percentileMillis(99),
+                    virtual.total().percentileMillis(99.9),
+                    platform.total().percentileMillis(99.9)));
+        }
+        return report.toString();
+    }
+
+    private static String format(LoadTestOptions options, Run run) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(
+                Locale.ROOT,
+                "== threads=%s api-mode=%s rps=%d duration=%s seed=%d employees=%d upstream-limit=%s%n",
+                run.threads(),
+                options.apiMode(),
+                options.rps(),
+                options.duration(),
+                options.seed(),
+                options.employees(),
+                options.upstreamLimit() > 0
+                        ? options.upstreamLimit() + "/" + options.upstreamBackoff()
+                        : "off"));
+        report.append(String.format(Locale.ROOT, "mix: %s%n", options.mix()));
+        OperationStats total = run.total();
+        report.append(String.format(
+                Locale.ROOT,
+                "scheduled %d requests, completed %d in %.1fs: %.1f req/s%n%n",
+                run.result().scheduled(),
+                total.count(),
+                seconds(run.result().elapsed()),
+                run.throughput()));
+        report.append(HEADER);
+        run.result().stats().forEach((operation, stats) -> {
+            if (stats.count() > 0) {
+                report.append(row(operation.key(), stats));
+            }
+        });
+        report.append(row("all", total));
+        long requests = Math.max(1, total.count());
+        report.append(String.format(
+                Locale.ROOT,
+                "%nupstream: %d calls (%.2f per request), %d rate limited (%.1f%%); api answered %.1f%% with 429%n",
+                run.upstreamCalls(),
+                run.upstreamCalls() / (double) requests,
+                run.upstreamThrottled(),
+                100.0 * run.upstreamThrottled() / Math.max(1, run.upstreamCalls()),
+                100.0 * total.throttled() / requests));
+        return report.toString();
+    }
+
+    private static String row(String label, OperationStats stats) {
+        return String.format(
+                Locale.ROOT,
+                VALUES,
+                label,
+                stats.count(),
+                stats.succeeded(),
+                stats.throttled(),
+                stats.failed(),
+                stats.percentileMillis(50),
+                stats.percentileMillis(99),
+                stats.percentileMillis(99.9),
+                stats.maxMillis());
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1e9;
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.loadtest;
+
+/**
+ * The kinds of request the load generator sends to the api, one per endpoint.
+ */
+enum Operation {
+    LIST("list"),
+    SEARCH("search"),
+    GET_BY_ID("byId"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the name used for this operation in {@code --mix} and in the report
+     */
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
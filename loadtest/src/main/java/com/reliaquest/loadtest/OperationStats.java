@@ -0,0 +1,69 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and outcomes of one operation during a run. Latencies are in microseconds, measured from the moment the
+ * request was scheduled to be sent rather than when it actually was, so a stalled generator or a saturated api shows
+ * up as latency instead of silently lowering the request rate (no coordinated omission).
+ */
+final class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param status HTTP status of the response, or 0 if the request failed without one
+     */
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (status >= 200 && status < 300) {
+            succeeded.increment();
+        } else if (status == 429) {
+            throttled.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    long throttled() {
+        return throttled.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return the latency at the given percentile, in milliseconds
+     */
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    void addTo(OperationStats total) {
+        total.latencies.add(latencies);
+        total.succeeded.add(succeeded.sum());
+        total.throttled.add(throttled.sum());
+        total.failed.add(failed.sum());
+    }
+}
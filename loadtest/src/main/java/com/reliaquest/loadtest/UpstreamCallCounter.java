@@ -0,0 +1,46 @@
+package com.reliaquest.loadtest;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servlet filter installed into the mock server to count the requests the api makes to it, and how many of them were
+ * rate limited.
+ */
+final class UpstreamCallCounter implements Filter {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            calls.increment();
+            if (((HttpServletResponse) response).getStatus() == 429) {
+                throttled.increment();
+            }
+        }
+    }
+
+    long calls() {
+        return calls.sum();
+    }
+
+    long throttled() {
+        return throttled.sum();
+    }
+
+    void reset() {
+        calls.reset();
+        throttled.reset();
+    }
+}
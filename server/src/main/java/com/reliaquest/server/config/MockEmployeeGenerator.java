@@ -0,0 +1,64 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.common.json.InterningStringDeserializer;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates the initial mock roster in parallel.
+ * <p>
+ * The roster is cut into fixed-size chunks, each generated on its own thread by its own {@link Faker} with its own
+ * {@link Random} derived from the seed and the chunk's index. So generation scales with cores, threads never contend
+ * on a shared random source, and the same seed yields the same roster regardless of how chunks are scheduled.
+ * Employees are built directly rather than through Datafaker's reflective object transformer, and titles are interned
+ * so the roster shares one string per distinct title.
+ * </p>
+ */
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 16_384;
+
+    private final Locale locale;
+    private final long seed;
+
+    public MockEmployeeGenerator(Locale locale, long seed) {
+        this.locale = locale;
+        this.seed = seed;
+    }
+
+    /**
+     * @return {@code count} employees, the same ones for the same locale and seed
+     */
+    public List<MockEmployee> generate(int count) {
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private List<MockEmployee> generateChunk(int chunk, int size) {
+        // golden-ratio increment spreads consecutive chunk seeds apart
+        final var faker = new Faker(locale, new Random(seed + chunk * 0x9E3779B97F4A7C15L));
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(new UUID(faker.random().nextLong(), faker.random().nextLong()))
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(InterningStringDeserializer.DICTIONARY.intern(faker.job().title()))
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()))
+                    .build());
+        }
+        return employees;
+    }
+}
@@ -1,18 +1,26 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.ratelimit.FixedBackoffRateLimiter;
+import com.reliaquest.server.ratelimit.RateLimitAlgorithm;
+import com.reliaquest.server.ratelimit.RateLimitKey;
+import com.reliaquest.server.ratelimit.RateLimiter;
+import com.reliaquest.server.ratelimit.SlidingWindowRateLimiter;
+import com.reliaquest.server.ratelimit.TokenBucketRateLimiter;
+import com.reliaquest.server.store.MockEmployeeSnapshotFile;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,35 +33,117 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    // beyond this, logging every seeded employee would cost more than seeding them
+    private static final int MAX_LOGGED_EMPLOYEES = 1_000;
+
+    /*
+     * With mock.faker.seed set, every start generates the same roster (ids included), which makes runs reproducible.
+     */
     @Bean
-    public Faker faker() {
-        return new Faker(Locale.getDefault());
+    public Faker faker(@Value("${mock.faker.seed:#{null}}") Long seed) {
+        return seed == null ? new Faker(Locale.getDefault()) : new Faker(Locale.getDefault(), new Random(seed));
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Concurrent store seeded with the initial roster; MockEmployeeService serves CRUD operations from it.
+     * With mock.employees.snapshot set, the roster is loaded from that file if it exists, otherwise generated and
+     * written there, so large rosters only have to be generated once. A snapshot generated for a different
+     * mock.employees.max or mock.faker.seed is regenerated and overwritten rather than served in their place.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.faker.seed:#{null}}") Long seed,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.snapshot:#{null}}") Path snapshot)
+            throws IOException {
+        final var started = System.nanoTime();
+        final List<MockEmployee> roster;
+        if (snapshot != null && isCurrent(snapshot, maxEmployees, seed)) {
+            roster = MockEmployeeSnapshotFile.read(snapshot);
+        } else {
+            final long generatorSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+            roster = new MockEmployeeGenerator(Locale.getDefault(), generatorSeed).generate(maxEmployees);
+            if (snapshot != null) {
+                MockEmployeeSnapshotFile.write(snapshot, generatorSeed, roster);
+            }
+        }
+        if (log.isDebugEnabled() && roster.size() <= MAX_LOGGED_EMPLOYEES) {
+            roster.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+        final var store = new MockEmployeeStore(roster);
+        log.info(
+                "Seeded {} employees in {} ms{}",
+                store.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                snapshot != null ? " (snapshot " + snapshot + ")" : "");
+        return store;
+    }
+
+    private static boolean isCurrent(Path snapshot, int maxEmployees, Long seed) throws IOException {
+        if (!Files.exists(snapshot)) {
+            return false;
+        }
+        final var header = MockEmployeeSnapshotFile.readHeader(snapshot);
+        if (header.matches(maxEmployees, seed)) {
+            return true;
+        }
+        log.warn(
+                "Regenerating snapshot {}: it holds {} employees from seed {}, but mock.employees.max is {} and"
+                        + " mock.faker.seed is {}",
+                snapshot,
+                header.count(),
+                header.seed(),
+                maxEmployees,
+                seed != null ? seed : "unset");
+        return false;
     }
 
+    @Value("${mock.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${mock.rate-limit.algorithm:FIXED_BACKOFF}")
+    private RateLimitAlgorithm rateLimitAlgorithm;
+
+    @Value("${mock.rate-limit.key:GLOBAL}")
+    private RateLimitKey rateLimitKey;
+
+    @Value("${mock.rate-limit.client-header:X-Client-Id}")
+    private String rateLimitClientHeader;
+
+    @Value("${mock.rate-limit.requests:#{null}}")
+    private Integer rateLimitRequests;
+
+    @Value("${mock.rate-limit.period:PT1S}")
+    private Duration rateLimitPeriod;
+
+    @Value("${mock.rate-limit.burst:#{null}}")
+    private Integer rateLimitBurst;
+
+    @Value("${mock.rate-limit.backoff:#{null}}")
+    private Duration rateLimitBackoff;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (rateLimitEnabled) {
+            registry.addInterceptor(new RateLimitInterceptor(rateLimiter(), rateLimitKey, rateLimitClientHeader));
+        }
+    }
+
+    /*
+     * Without mock.rate-limit.requests / mock.rate-limit.backoff the limit is a random 5 to 9 requests and the backoff
+     * a random 30 to 89s per start, as in the original challenge. The burst defaults to the request count.
+     */
+    private RateLimiter rateLimiter() {
+        int requests = rateLimitRequests != null ? rateLimitRequests : RandomGenerator.getDefault().nextInt(5, 10);
+        Duration backoff = rateLimitBackoff != null
+                ? rateLimitBackoff
+                : Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+        log.info("Rate limiting requests: {} by {}, {} requests", rateLimitAlgorithm, rateLimitKey, requests);
+        return switch (rateLimitAlgorithm) {
+            case FIXED_BACKOFF -> new FixedBackoffRateLimiter(requests, backoff);
+            case TOKEN_BUCKET -> new TokenBucketRateLimiter(
+                    requests, rateLimitPeriod, rateLimitBurst != null ? rateLimitBurst : requests);
+            case SLIDING_WINDOW -> new SlidingWindowRateLimiter(requests, rateLimitPeriod);
+        };
     }
 }
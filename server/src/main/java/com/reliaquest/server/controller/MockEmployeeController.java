@@ -1,8 +1,10 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,6 +27,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final int MAX_PAGE_SIZE = 10_000;
+    private static final int MAX_BATCH_SIZE = 10_000;
+
     private final MockEmployeeService mockEmployeeService;
 
     @GetMapping()
@@ -31,6 +37,31 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.getMockEmployees());
     }
 
+    /*
+     * Paged variant of getEmployees, selected when a limit is given. Either walk with the opaque nextCursor of the
+     * previous page, or address pages directly by number (which also reports the total, so pages can be fetched
+     * concurrently).
+     */
+    @GetMapping(params = "limit")
+    public Response<Page<MockEmployee>> getEmployeePage(
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (page != null && cursor != null) {
+            throw new IllegalArgumentException("page and cursor are mutually exclusive");
+        }
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        return Response.handledWith(
+                page != null
+                        ? mockEmployeeService.getMockEmployeePage(page, limit)
+                        : mockEmployeeService.getMockEmployeesAfter(cursor, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
@@ -48,4 +79,26 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /*
+     * Batch variants of create and delete. Items are validated one by one and reported in input order, so one bad item
+     * doesn't fail the rest of the batch.
+     */
+    @PostMapping("/batch")
+    public Response<List<BatchResult<MockEmployee>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.createAll(checkBatchSize(inputs)));
+    }
+
+    @DeleteMapping("/batch")
+    public Response<List<BatchResult<Boolean>>> deleteEmployees(@RequestBody List<DeleteMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.deleteAll(checkBatchSize(inputs)));
+    }
+
+    private static <T> List<T> checkBatchSize(List<T> inputs) {
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch must not hold more than " + MAX_BATCH_SIZE + " items");
+        }
+        return inputs;
+    }
 }
@@ -0,0 +1,21 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request. Exactly one of the two is set.
+ *
+ * @param data  the item's result, if it was applied
+ * @param error why the item was rejected, if it was not
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResult<T>(T data, String error) {
+
+    public static <T> BatchResult<T> applied(T data) {
+        return new BatchResult<>(data, null);
+    }
+
+    public static <T> BatchResult<T> rejected(String error) {
+        return new BatchResult<>(null, error);
+    }
+}
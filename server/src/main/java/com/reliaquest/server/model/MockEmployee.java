@@ -1,7 +1,9 @@
 package com.reliaquest.server.model;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.reliaquest.common.json.InterningStringDeserializer;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +20,7 @@ public class MockEmployee {
     private String name;
     private Integer salary;
     private Integer age;
+    @JsonDeserialize(using = InterningStringDeserializer.class)
     private String title;
     private String email;
 
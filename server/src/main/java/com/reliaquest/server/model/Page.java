@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * One page of a listing.
+ *
+ * @param items      items on this page
+ * @param page       zero-based page number, only set for page/limit requests
+ * @param total      total number of items, only set for page/limit requests
+ * @param nextCursor opaque cursor to pass as {@code cursor} for the next page, or {@code null} on the last page
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Page<T>(List<T> items, Integer page, Integer total, String nextCursor) {}
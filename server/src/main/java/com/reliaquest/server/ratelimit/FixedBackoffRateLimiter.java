@@ -0,0 +1,65 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * The challenge's original limiter, per key: {@code requests} are allowed, then every request is rejected for
+ * {@code backoff} after the last allowed one, then the count starts over.
+ * <p>
+ * Count and backoff deadline are swapped together with one compare-and-set, so concurrent requests can neither
+ * exceed the limit nor reset it twice.
+ * </p>
+ */
+public class FixedBackoffRateLimiter implements RateLimiter {
+
+    private static final State FRESH = new State(0, 0);
+
+    private final int limit;
+    private final long backoffNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, AtomicReference<State>> states = new ConcurrentHashMap<>();
+
+    public FixedBackoffRateLimiter(int requests, Duration backoff) {
+        this(requests, backoff, System::nanoTime);
+    }
+
+    FixedBackoffRateLimiter(int requests, Duration backoff, LongSupplier nanoClock) {
+        if (requests < 1 || backoff.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Invalid fixed backoff: %d requests, backoff %s".formatted(requests, backoff));
+        }
+        this.limit = requests;
+        this.backoffNanos = backoff.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision acquire(String key) {
+        AtomicReference<State> ref = states.get(key);
+        if (ref == null) {
+            ref = states.computeIfAbsent(key, ignored -> new AtomicReference<>(FRESH));
+        }
+        long now = nanoClock.getAsLong();
+        while (true) {
+            State current = ref.get();
+            State state = current;
+            if (state.count >= limit) {
+                long wait = state.blockedUntil - now;
+                if (wait > 0) {
+                    return RateLimitDecision.reject(limit, wait, wait);
+                }
+                state = FRESH;
+            }
+            int count = state.count + 1;
+            boolean exhausted = count >= limit;
+            if (ref.compareAndSet(current, new State(count, exhausted ? now + backoffNanos : 0))) {
+                return RateLimitDecision.allow(limit, limit - count, exhausted ? backoffNanos : 0);
+            }
+        }
+    }
+
+    private record State(int count, long blockedUntil) {}
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.server.ratelimit;
+
+/**
+ * Algorithms selectable with {@code mock.rate-limit.algorithm}.
+ */
+public enum RateLimitAlgorithm {
+    /**
+     * The challenge's original behavior: {@code requests} are allowed, then everything is rejected for
+     * {@code backoff}, then the count starts over. See {@link FixedBackoffRateLimiter}.
+     */
+    FIXED_BACKOFF,
+    /**
+     * Steady {@code requests} per {@code period} with bursts up to {@code burst}. See {@link TokenBucketRateLimiter}.
+     */
+    TOKEN_BUCKET,
+    /**
+     * At most {@code requests} in any rolling {@code period}. See {@link SlidingWindowRateLimiter}.
+     */
+    SLIDING_WINDOW
+}
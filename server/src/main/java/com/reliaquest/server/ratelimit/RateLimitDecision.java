@@ -0,0 +1,42 @@
+package com.reliaquest.server.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of {@link RateLimiter#acquire(String)}.
+ *
+ * @param allowed         whether the request may proceed
+ * @param limit           requests the key is allowed per window (or bucket capacity)
+ * @param remaining       requests still allowed right now after this one
+ * @param resetNanos      time until the key's budget is fully restored
+ * @param retryAfterNanos time until a rejected request would be allowed, 0 if allowed
+ */
+public record RateLimitDecision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+
+    static RateLimitDecision allow(int limit, int remaining, long resetNanos) {
+        return new RateLimitDecision(true, limit, Math.max(remaining, 0), Math.max(resetNanos, 0), 0);
+    }
+
+    static RateLimitDecision reject(int limit, long resetNanos, long retryAfterNanos) {
+        return new RateLimitDecision(false, limit, 0, Math.max(resetNanos, 0), Math.max(retryAfterNanos, 0));
+    }
+
+    /**
+     * Seconds until the budget is fully restored, rounded up, for {@code X-RateLimit-Reset}.
+     */
+    public long resetSeconds() {
+        return ceilSeconds(resetNanos);
+    }
+
+    /**
+     * Seconds until a retry would be allowed, rounded up and at least 1, for {@code Retry-After}.
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, ceilSeconds(retryAfterNanos));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        long perSecond = TimeUnit.SECONDS.toNanos(1);
+        return (nanos + perSecond - 1) / perSecond;
+    }
+}
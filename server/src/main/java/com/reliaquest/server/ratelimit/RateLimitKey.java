@@ -0,0 +1,54 @@
+package com.reliaquest.server.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * What a rate limit budget is tracked by, selectable with {@code mock.rate-limit.key}.
+ * <p>
+ * The client is the value of the configured client header ({@code X-Client-Id} by default) if the request has one,
+ * otherwise the remote address. The route is the HTTP method plus the matched handler pattern, so
+ * {@code GET /api/v1/employee/a} and {@code GET /api/v1/employee/b} share one budget.
+ * </p>
+ */
+public enum RateLimitKey {
+    /**
+     * One budget shared by every request, as the challenge's original limiter did.
+     */
+    GLOBAL {
+        @Override
+        public String resolve(HttpServletRequest request, String clientHeader) {
+            return "*";
+        }
+    },
+    CLIENT {
+        @Override
+        public String resolve(HttpServletRequest request, String clientHeader) {
+            return client(request, clientHeader);
+        }
+    },
+    ROUTE {
+        @Override
+        public String resolve(HttpServletRequest request, String clientHeader) {
+            return route(request);
+        }
+    },
+    CLIENT_ROUTE {
+        @Override
+        public String resolve(HttpServletRequest request, String clientHeader) {
+            return client(request, clientHeader) + ' ' + route(request);
+        }
+    };
+
+    public abstract String resolve(HttpServletRequest request, String clientHeader);
+
+    private static String client(HttpServletRequest request, String clientHeader) {
+        String client = clientHeader == null ? null : request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + ' ' + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.server.ratelimit;
+
+/**
+ * Decides whether a request may proceed, keeping separate state per key (a client, a route, or everything).
+ * <p>
+ * Implementations are safe for concurrent use and never block: each key's state is updated with compare-and-set, so
+ * contended keys retry instead of waiting on a lock. State is kept for every key seen, which is fine for the handful
+ * of clients and routes a mock server sees.
+ * </p>
+ */
+public interface RateLimiter {
+
+    /**
+     * Takes one request's worth of budget from {@code key} if there is any left.
+     *
+     * @param key what the budget is tracked by, see {@link RateLimitKey}
+     * @return whether the request is allowed, and the state of the budget afterwards
+     */
+    RateLimitDecision acquire(String key);
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding window per key: at most {@code requests} in any rolling {@code period}.
+ * <p>
+ * Uses the sliding window counter approximation: a key keeps the counts of the current and the previous fixed window,
+ * and the previous one is weighted by how much of it still overlaps the rolling window. That avoids the double bursts
+ * a fixed window allows at its edges without keeping a timestamp per request.
+ * </p>
+ */
+public class SlidingWindowRateLimiter implements RateLimiter {
+
+    // tolerates rounding in the weighted estimate, so a retry at exactly retryAfterNanos is let through
+    private static final double EPSILON = 1e-9;
+
+    private final int limit;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+
+    public SlidingWindowRateLimiter(int requests, Duration period) {
+        this(requests, period, System::nanoTime);
+    }
+
+    SlidingWindowRateLimiter(int requests, Duration period, LongSupplier nanoClock) {
+        if (requests < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException(
+                    "Invalid sliding window: %d requests per %s".formatted(requests, period));
+        }
+        this.limit = requests;
+        this.windowNanos = period.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision acquire(String key) {
+        AtomicReference<Window> ref = windows.get(key);
+        if (ref == null) {
+            ref = windows.computeIfAbsent(key, ignored -> new AtomicReference<>(Window.EMPTY));
+        }
+        long now = nanoClock.getAsLong();
+        long index = Math.floorDiv(now, windowNanos);
+        long elapsed = Math.floorMod(now, windowNanos);
+        while (true) {
+            Window current = ref.get();
+            Window window = current.rollTo(index);
+            double estimate = window.previous * (1 - (double) elapsed / windowNanos) + window.current;
+            if (estimate + 1 > limit + EPSILON) {
+                return RateLimitDecision.reject(limit, resetNanos(window, elapsed), retryAfterNanos(window, elapsed));
+            }
+            Window next = new Window(index, window.previous, window.current + 1);
+            if (ref.compareAndSet(current, next)) {
+                return RateLimitDecision.allow(limit, (int) (limit - estimate - 1 + EPSILON), resetNanos(next, elapsed));
+            }
+        }
+    }
+
+    /*
+     * The budget is fully restored once neither counted window overlaps the rolling window any more.
+     */
+    private long resetNanos(Window window, long elapsed) {
+        if (window.current > 0) {
+            return 2 * windowNanos - elapsed;
+        }
+        return window.previous > 0 ? windowNanos - elapsed : 0;
+    }
+
+    /*
+     * Solves previous * (1 - f) + current + 1 <= limit for the window fraction f at which one more request fits,
+     * either later in this window or, if this window alone is already full, in the next one.
+     */
+    private long retryAfterNanos(Window window, long elapsed) {
+        if (window.current < limit) {
+            double fraction = 1 - (double) (limit - window.current - 1) / window.previous;
+            return (long) Math.ceil(fraction * windowNanos) - elapsed;
+        }
+        double fraction = 1 - (double) (limit - 1) / window.current;
+        return windowNanos - elapsed + (long) Math.ceil(fraction * windowNanos);
+    }
+
+    private record Window(long index, int previous, int current) {
+
+        static final Window EMPTY = new Window(Long.MIN_VALUE, 0, 0);
+
+        Window rollTo(long to) {
+            if (to == index) {
+                return this;
+            }
+            return to - 1 == index ? new Window(to, current, 0) : new Window(to, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.server.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per key: refills at {@code requests} per {@code period} and holds at most {@code burst} tokens.
+ * <p>
+ * Implemented as GCRA, so a key's whole state is one {@code long} - the time at which its bucket would be full again
+ * (the theoretical arrival time) - advanced with a compare-and-set per request.
+ * </p>
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private final int burst;
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(int requests, Duration period, int burst) {
+        this(requests, period, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int requests, Duration period, int burst, LongSupplier nanoClock) {
+        if (requests < 1 || burst < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException(
+                    "Invalid token bucket: %d requests per %s, burst %d".formatted(requests, period, burst));
+        }
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, period.toNanos() / requests);
+        this.capacityNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision acquire(String key) {
+        AtomicLong arrival = arrivals.get(key);
+        if (arrival == null) {
+            arrival = arrivals.computeIfAbsent(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+        }
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long current = arrival.get();
+            long start = Math.max(current, now);
+            long backlog = start + intervalNanos - now;
+            if (backlog > capacityNanos) {
+                return RateLimitDecision.reject(burst, start - now, backlog - capacityNanos);
+            }
+            if (arrival.compareAndSet(current, start + intervalNanos)) {
+                return RateLimitDecision.allow(burst, (int) ((capacityNanos - backlog) / intervalNanos), backlog);
+            }
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.BatchResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Page;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +30,124 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final Validator validator;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.findAll();
+    }
+
+    public Page<MockEmployee> getMockEmployeePage(int page, int limit) {
+        final var slice = mockEmployeeStore.findPage(page, limit);
+        return new Page<>(slice.employees(), page, mockEmployeeStore.size(), nextCursor(slice));
+    }
+
+    public Page<MockEmployee> getMockEmployeesAfter(String cursor, int limit) {
+        final var slice = mockEmployeeStore.findAfter(cursor == null ? 0 : decodeCursor(cursor), limit);
+        return new Page<>(slice.employees(), null, null, nextCursor(slice));
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newMockEmployee(input);
+        mockEmployeeStore.save(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates every valid input in one store write. Invalid inputs are rejected individually and don't fail the batch.
+     *
+     * @return one result per input, in the given order
+     */
+    public List<BatchResult<MockEmployee>> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var results = new ArrayList<BatchResult<MockEmployee>>(inputs.size());
+        final var accepted = new ArrayList<MockEmployee>(inputs.size());
+        for (final var input : inputs) {
+            final var error = validate(input);
+            if (error != null) {
+                results.add(BatchResult.rejected(error));
+                continue;
+            }
+            final var mockEmployee = newMockEmployee(input);
+            accepted.add(mockEmployee);
+            results.add(BatchResult.applied(mockEmployee));
+        }
+        mockEmployeeStore.saveAll(accepted);
+        log.debug("Added {} of {} employees in batch", accepted.size(), inputs.size());
+        return results;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var mockEmployee = mockEmployeeStore.deleteFirstByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * Deletes, per input, the oldest employee with that name, taking each distinct name's bucket lock once.
+     *
+     * @return one result per input, in the given order: whether an employee was removed, or why the input was rejected
+     */
+    public List<BatchResult<Boolean>> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var results = new ArrayList<BatchResult<Boolean>>(inputs.size());
+        final var names = new ArrayList<String>(inputs.size());
+        final var positions = new ArrayList<Integer>(inputs.size());
+        for (final var input : inputs) {
+            final var error = validate(input);
+            if (error == null) {
+                positions.add(results.size());
+                names.add(input.getName());
+            }
+            results.add(error == null ? null : BatchResult.rejected(error));
         }
+        final var removed = mockEmployeeStore.deleteFirstByNames(names);
+        for (int i = 0; i < removed.size(); i++) {
+            removed.get(i).ifPresent(employee -> log.debug("Removed employee: {}", employee));
+            results.set(positions.get(i), BatchResult.applied(removed.get(i).isPresent()));
+        }
+        return results;
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
 
-        return false;
+    private String validate(Object input) {
+        if (input == null) {
+            return "item must not be null";
+        }
+        final Set<ConstraintViolation<Object>> violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String nextCursor(MockEmployeeStore.Slice slice) {
+        if (!slice.hasMore()) {
+            return null;
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Long.toString(slice.lastSequence()).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
     }
 }
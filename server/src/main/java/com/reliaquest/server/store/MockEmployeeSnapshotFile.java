@@ -0,0 +1,140 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.common.json.InterningStringDeserializer;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Binary roster snapshot, so a large roster can be generated once and loaded on later starts in a fraction of the
+ * time.
+ * <p>
+ * The format is a magic number, a format version, the employee count and the generator seed, followed per employee by
+ * the id as two {@code long}s and each remaining field behind a presence flag: {@code int}s for salary and age,
+ * modified UTF-8 for name, title and email. Files are written to a temporary sibling and moved into place, so a crashed
+ * write never leaves a truncated snapshot behind. The count and seed let a start tell whether the file still matches
+ * its configuration, see {@link Header#matches(int, Long)}.
+ * </p>
+ */
+public final class MockEmployeeSnapshotFile {
+
+    private static final int MAGIC = 0x4D454D50; // "MEMP"
+    private static final int VERSION = 2;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private MockEmployeeSnapshotFile() {}
+
+    /**
+     * What a snapshot was generated from: the employee count and the generator seed.
+     */
+    public record Header(int count, long seed) {
+
+        /**
+         * @param seed the configured seed, or {@code null} if any seed will do
+         */
+        public boolean matches(int count, Long seed) {
+            return this.count == count && (seed == null || this.seed == seed);
+        }
+    }
+
+    public static void write(@NonNull Path path, long seed, @NonNull Collection<MockEmployee> employees)
+            throws IOException {
+        final var parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        final var temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(employees.size());
+            out.writeLong(seed);
+            for (MockEmployee employee : employees) {
+                out.writeLong(employee.getId().getMostSignificantBits());
+                out.writeLong(employee.getId().getLeastSignificantBits());
+                writeString(out, employee.getName());
+                writeInt(out, employee.getSalary());
+                writeInt(out, employee.getAge());
+                writeString(out, employee.getTitle());
+                writeString(out, employee.getEmail());
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads just the header, so a stale snapshot can be detected without loading its roster.
+     *
+     * @throws IOException if the file can't be read or isn't a snapshot in this format
+     */
+    public static Header readHeader(@NonNull Path path) throws IOException {
+        try (var in = new DataInputStream(Files.newInputStream(path))) {
+            return readHeader(in, path);
+        }
+    }
+
+    /**
+     * @throws IOException if the file can't be read or isn't a snapshot in this format
+     */
+    public static List<MockEmployee> read(@NonNull Path path) throws IOException {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            final var count = readHeader(in, path).count();
+            final var employees = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(new MockEmployee(
+                        new UUID(in.readLong(), in.readLong()),
+                        readString(in),
+                        readInt(in),
+                        readInt(in),
+                        InterningStringDeserializer.DICTIONARY.intern(readString(in)),
+                        readString(in)));
+            }
+            return employees;
+        }
+    }
+
+    private static Header readHeader(DataInputStream in, Path path) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a roster snapshot: " + path);
+        }
+        final var version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported roster snapshot version %d: %s".formatted(version, path));
+        }
+        return new Header(in.readInt(), in.readLong());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static Integer readInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+}
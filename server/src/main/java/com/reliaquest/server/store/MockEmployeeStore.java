@@ -0,0 +1,260 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+
+/**
+ * Thread-safe storage for mock employees, safe to drive from hundreds of concurrent request threads.
+ * <p>
+ * Every employee gets a monotonically increasing sequence number on insert. Employees are kept in a
+ * {@link ConcurrentSkipListMap} ordered by that sequence, which gives lock-free, insertion-ordered iteration that
+ * never throws {@link java.util.ConcurrentModificationException}, and in {@link ConcurrentHashMap}s keyed by id and by
+ * case-folded name. Name buckets are only modified inside {@link ConcurrentMap#compute}, which locks just that hash
+ * bin, so writers contend per name rather than on a global lock and readers never block.
+ * </p>
+ * <p>
+ * Reads are weakly consistent: a listing taken while writes are in flight reflects each completed write and may or may
+ * not include concurrent ones, but always returns whole employees in insertion order.
+ * </p>
+ */
+public class MockEmployeeStore {
+
+    // page ends remembered per removal count; past this many, pages are found from the closest one
+    private static final int MAX_PAGE_ANCHORS = 1024;
+
+    private final AtomicLong sequence = new AtomicLong();
+    // bumped whenever an employee is removed, which moves everyone after it one position forward
+    private final AtomicLong removals = new AtomicLong();
+    private final AtomicReference<PageAnchors> pageAnchors = new AtomicReference<>(new PageAnchors(0));
+    private final ConcurrentNavigableMap<Long, MockEmployee> employeesBySequence = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<UUID, Long> sequenceById;
+    private final ConcurrentMap<String, ArrayDeque<Long>> sequencesByName;
+
+    /**
+     * The hash indexes are presized for the seed, so seeding a large roster doesn't rehash them over and over.
+     */
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> seed) {
+        sequenceById = new ConcurrentHashMap<>(seed.size());
+        sequencesByName = new ConcurrentHashMap<>(seed.size());
+        saveAll(seed instanceof List<MockEmployee> list ? list : List.copyOf(seed));
+    }
+
+    public int size() {
+        return employeesBySequence.size();
+    }
+
+    /**
+     * @return all employees in insertion order
+     */
+    public List<MockEmployee> findAll() {
+        return new ArrayList<>(employeesBySequence.values());
+    }
+
+    /**
+     * Returns up to {@code limit} employees inserted after the given sequence, in insertion order. Seeking to the
+     * sequence is O(log n), so walking the whole store this way is linear.
+     */
+    public Slice findAfter(long afterSequence, int limit) {
+        return slice(employeesBySequence.tailMap(afterSequence, false).entrySet().iterator(), limit);
+    }
+
+    /**
+     * Returns the zero-based {@code page} of {@code limit} employees, in insertion order.
+     * <p>
+     * The skip list can't be indexed by position, so a page is found by seeking to a sequence with
+     * {@link ConcurrentNavigableMap#tailMap} and walking on from there. Until the first removal, sequences are dense
+     * and position {@code p} is sequence {@code p + 1}, so the seek lands on the page. After one, every page served
+     * remembers the sequence its end lies at, and later pages seek from the closest remembered end before them, so
+     * walking the pages in order is linear overall rather than quadratic. The next removal shifts positions and
+     * forgets them.
+     * </p>
+     */
+    public Slice findPage(int page, int limit) {
+        final long offset = (long) page * limit;
+        final long removed = removals.get();
+        if (removed == 0) {
+            return slice(employeesBySequence.tailMap(offset, false).entrySet().iterator(), limit);
+        }
+        var anchors = pageAnchors.get();
+        if (anchors.removals() != removed) {
+            pageAnchors.compareAndSet(anchors, new PageAnchors(removed));
+            anchors = pageAnchors.get();
+        }
+        final var anchor = anchors.removals() == removed ? anchors.sequenceByOffset().floorEntry(offset) : null;
+        final var from = anchor == null ? employeesBySequence : employeesBySequence.tailMap(anchor.getValue(), false);
+        final var entries = from.entrySet().iterator();
+        for (long skip = anchor == null ? offset : offset - anchor.getKey(); skip > 0 && entries.hasNext(); skip--) {
+            entries.next();
+        }
+        final var slice = slice(entries, limit);
+        if (!slice.employees().isEmpty()
+                && anchors.removals() == removed
+                && removals.get() == removed
+                && anchors.sequenceByOffset().size() < MAX_PAGE_ANCHORS) {
+            anchors.sequenceByOffset().put(offset + slice.employees().size(), slice.lastSequence());
+        }
+        return slice;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final var seq = sequenceById.get(id);
+        return seq == null ? Optional.empty() : Optional.ofNullable(employeesBySequence.get(seq));
+    }
+
+    public void save(@NonNull MockEmployee mockEmployee) {
+        save(mockEmployee, sequence.incrementAndGet());
+    }
+
+    /**
+     * Saves the employees in the given order under one contiguous run of sequence numbers, reserved with a single
+     * atomic step for the whole batch.
+     */
+    public void saveAll(@NonNull List<MockEmployee> batch) {
+        batch.forEach(mockEmployee -> Objects.requireNonNull(mockEmployee.getId(), "id"));
+        final var first = sequence.getAndAdd(batch.size()) + 1;
+        for (int i = 0; i < batch.size(); i++) {
+            save(batch.get(i), first + i);
+        }
+    }
+
+    private void save(MockEmployee mockEmployee, long seq) {
+        Objects.requireNonNull(mockEmployee.getId(), "id");
+        final var previous = sequenceById.put(mockEmployee.getId(), seq);
+        employeesBySequence.put(seq, mockEmployee);
+        if (previous != null) {
+            final var replaced = employeesBySequence.remove(previous);
+            if (replaced != null) {
+                removals.incrementAndGet();
+            }
+            if (replaced != null && replaced.getName() != null) {
+                sequencesByName.computeIfPresent(fold(replaced.getName()), (name, seqs) -> {
+                    seqs.remove(previous);
+                    return seqs.isEmpty() ? null : seqs;
+                });
+            }
+        }
+        if (mockEmployee.getName() != null) {
+            sequencesByName.compute(fold(mockEmployee.getName()), (name, seqs) -> {
+                final var bucket = seqs == null ? new ArrayDeque<Long>(1) : seqs;
+                bucket.addLast(seq);
+                return bucket;
+            });
+        }
+    }
+
+    /**
+     * Removes the oldest employee whose name matches case-insensitively.
+     *
+     * @return the removed employee, if any
+     */
+    public Optional<MockEmployee> deleteFirstByName(@NonNull String name) {
+        final var removed = new AtomicReference<Long>();
+        sequencesByName.computeIfPresent(fold(name), (key, seqs) -> {
+            removed.set(seqs.pollFirst());
+            return seqs.isEmpty() ? null : seqs;
+        });
+        final var seq = removed.get();
+        if (seq == null) {
+            return Optional.empty();
+        }
+        final var mockEmployee = employeesBySequence.remove(seq);
+        if (mockEmployee == null) {
+            return Optional.empty();
+        }
+        removals.incrementAndGet();
+        sequenceById.remove(mockEmployee.getId(), seq);
+        return Optional.of(mockEmployee);
+    }
+
+    /**
+     * Batch form of {@link #deleteFirstByName(String)}: for each name removes the oldest employee matching it, so a
+     * name given k times removes its k oldest matches. Each distinct name's bucket is locked once for the whole batch
+     * rather than once per item.
+     *
+     * @return per name, in the given order, the removed employee if any
+     */
+    public List<Optional<MockEmployee>> deleteFirstByNames(@NonNull List<String> names) {
+        final var positionsByName = new LinkedHashMap<String, List<Integer>>();
+        for (int i = 0; i < names.size(); i++) {
+            positionsByName
+                    .computeIfAbsent(fold(names.get(i)), name -> new ArrayList<>(1))
+                    .add(i);
+        }
+        final var removed = new ArrayList<Optional<MockEmployee>>(Collections.nCopies(names.size(), Optional.empty()));
+        positionsByName.forEach((name, positions) -> {
+            final var seqs = new ArrayList<Long>(positions.size());
+            sequencesByName.computeIfPresent(name, (key, bucket) -> {
+                while (seqs.size() < positions.size() && !bucket.isEmpty()) {
+                    seqs.add(bucket.pollFirst());
+                }
+                return bucket.isEmpty() ? null : bucket;
+            });
+            for (int i = 0; i < seqs.size(); i++) {
+                final var seq = seqs.get(i);
+                final var mockEmployee = employeesBySequence.remove(seq);
+                if (mockEmployee != null) {
+                    removals.incrementAndGet();
+                    sequenceById.remove(mockEmployee.getId(), seq);
+                    removed.set(positions.get(i), Optional.of(mockEmployee));
+                }
+            }
+        });
+        return removed;
+    }
+
+    private static Slice slice(Iterator<Map.Entry<Long, MockEmployee>> entries, int limit) {
+        final var employees = new ArrayList<MockEmployee>(Math.min(limit, 1024));
+        long lastSequence = 0;
+        while (employees.size() < limit && entries.hasNext()) {
+            final var entry = entries.next();
+            employees.add(entry.getValue());
+            lastSequence = entry.getKey();
+        }
+        return new Slice(employees, lastSequence, entries.hasNext());
+    }
+
+    /**
+     * A run of employees in insertion order.
+     *
+     * @param employees    the employees
+     * @param lastSequence sequence of the last employee, to continue from with {@link #findAfter(long, int)}
+     * @param hasMore      whether more employees follow
+     */
+    public record Slice(List<MockEmployee> employees, long lastSequence, boolean hasMore) {}
+
+    /**
+     * Sequences at which served pages ended, keyed by the position after them, valid while no further employee has
+     * been removed.
+     */
+    private record PageAnchors(long removals, ConcurrentNavigableMap<Long, Long> sequenceByOffset) {
+
+        PageAnchors(long removals) {
+            this(removals, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /*
+     * Same folding String#equalsIgnoreCase applies per char, done once per name so it can be used as a hash key.
+     */
+    private static String fold(String name) {
+        return name.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.ratelimit.RateLimitDecision;
+import com.reliaquest.server.ratelimit.RateLimitKey;
+import com.reliaquest.server.ratelimit.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Rejects requests over the configured {@link RateLimiter}'s budget with a 429.
+ * <p>
+ * Every response carries {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset}
+ * (seconds until the budget is fully restored); a 429 also carries {@code Retry-After} in seconds.
+ * </p>
+ */
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final RateLimiter limiter;
+    private final RateLimitKey key;
+    private final String clientHeader;
+
+    /**
+     * @param limiter      decides whether each request may proceed
+     * @param key          what the budget is tracked by
+     * @param clientHeader request header identifying the client for {@link RateLimitKey#CLIENT} keys
+     */
+    public RateLimitInterceptor(RateLimiter limiter, RateLimitKey key, String clientHeader) {
+        this.limiter = limiter;
+        this.key = key;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String budget = key.resolve(request, clientHeader);
+        RateLimitDecision decision = limiter.acquire(budget);
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            log.debug("Rate limited '{}' for {}s", budget, decision.retryAfterSeconds());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.ServerApplication;
+import com.reliaquest.server.ratelimit.RateLimitAlgorithm;
+import com.reliaquest.server.ratelimit.RateLimitKey;
+import com.reliaquest.server.store.MockEmployeeSnapshotFile;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ServerConfigurationTest {
+
+    // every value application.yml and the README document, as a user would type it
+    @ParameterizedTest
+    @CsvSource({
+        "fixed-backoff, global, FIXED_BACKOFF, GLOBAL",
+        "token-bucket, client, TOKEN_BUCKET, CLIENT",
+        "sliding-window, route, SLIDING_WINDOW, ROUTE",
+        "token-bucket, client-route, TOKEN_BUCKET, CLIENT_ROUTE"
+    })
+    void rateLimitProperties_bindEveryDocumentedValue(
+            String algorithm, String key, RateLimitAlgorithm expectedAlgorithm, RateLimitKey expectedKey) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ServerApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .run(
+                        "--server.port=0",
+                        "--mock.employees.max=5",
+                        "--mock.rate-limit.algorithm=" + algorithm,
+                        "--mock.rate-limit.key=" + key,
+                        "--mock.rate-limit.requests=10")) {
+            ServerConfiguration configuration = context.getBean(ServerConfiguration.class);
+
+            assertEquals(expectedAlgorithm, ReflectionTestUtils.getField(configuration, "rateLimitAlgorithm"));
+            assertEquals(expectedKey, ReflectionTestUtils.getField(configuration, "rateLimitKey"));
+        }
+    }
+
+    @Test
+    void mockEmployeeStore_regeneratesASnapshotOfAnotherSizeOrSeed(@TempDir Path dir) throws IOException {
+        ServerConfiguration configuration = new ServerConfiguration();
+        Path snapshot = dir.resolve("roster.bin");
+        configuration.mockEmployeeStore(1L, 3, snapshot);
+
+        assertEquals(5, configuration.mockEmployeeStore(1L, 5, snapshot).size());
+        assertEquals(new MockEmployeeSnapshotFile.Header(5, 1L), MockEmployeeSnapshotFile.readHeader(snapshot));
+
+        assertEquals(5, configuration.mockEmployeeStore(2L, 5, snapshot).size());
+        assertEquals(new MockEmployeeSnapshotFile.Header(5, 2L), MockEmployeeSnapshotFile.readHeader(snapshot));
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    private static int allowed(RateLimiter limiter, String key, int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limiter.acquire(key).allowed()) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Test
+    void fixedBackoff_rejectsForBackoffAfterLimit_thenStartsOver() {
+        RateLimiter limiter = new FixedBackoffRateLimiter(3, Duration.ofSeconds(30), clock::get);
+
+        assertEquals(2, limiter.acquire("k").remaining());
+        assertEquals(2, allowed(limiter, "k", 5));
+
+        clock.addAndGet(10 * SECOND);
+        RateLimitDecision rejected = limiter.acquire("k");
+        assertFalse(rejected.allowed());
+        assertEquals(20, rejected.retryAfterSeconds());
+
+        clock.addAndGet(20 * SECOND);
+        assertEquals(3, allowed(limiter, "k", 5));
+    }
+
+    @Test
+    void tokenBucket_allowsBurst_thenRefillsAtRate() {
+        RateLimiter limiter = new TokenBucketRateLimiter(10, Duration.ofSeconds(1), 5, clock::get);
+
+        assertEquals(5, allowed(limiter, "k", 20));
+        RateLimitDecision rejected = limiter.acquire("k");
+        assertFalse(rejected.allowed());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), rejected.retryAfterNanos());
+        assertEquals(1, rejected.retryAfterSeconds());
+
+        clock.addAndGet(SECOND / 2);
+        assertEquals(5, allowed(limiter, "k", 20));
+
+        clock.addAndGet(10 * SECOND);
+        RateLimitDecision full = limiter.acquire("k");
+        assertTrue(full.allowed());
+        assertEquals(4, full.remaining());
+    }
+
+    @Test
+    void slidingWindow_weightsPreviousWindowByOverlap() {
+        RateLimiter limiter = new SlidingWindowRateLimiter(10, Duration.ofSeconds(1), clock::get);
+
+        assertEquals(10, allowed(limiter, "k", 20));
+
+        // a quarter into the next window, 75% of the previous window still counts: 7.5 of 10
+        clock.addAndGet(SECOND + SECOND / 4);
+        assertEquals(2, allowed(limiter, "k", 20));
+        RateLimitDecision rejected = limiter.acquire("k");
+        assertFalse(rejected.allowed());
+        assertTrue(rejected.retryAfterNanos() > 0 && rejected.retryAfterNanos() <= SECOND);
+
+        clock.addAndGet(rejected.retryAfterNanos());
+        assertTrue(limiter.acquire("k").allowed());
+    }
+
+    @Test
+    void keysHaveSeparateBudgets() {
+        RateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofSeconds(1), 2, clock::get);
+
+        assertEquals(2, allowed(limiter, "a", 5));
+        assertEquals(2, allowed(limiter, "b", 5));
+    }
+
+    @Test
+    void concurrentRequests_neverExceedTheLimit() throws Exception {
+        RateLimiter[] limiters = {
+            new FixedBackoffRateLimiter(1_000, Duration.ofSeconds(30), clock::get),
+            new TokenBucketRateLimiter(1, Duration.ofSeconds(1), 1_000, clock::get),
+            new SlidingWindowRateLimiter(1_000, Duration.ofHours(1), clock::get)
+        };
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (RateLimiter limiter : limiters) {
+                AtomicInteger allowed = new AtomicInteger();
+                CompletableFuture.allOf(IntStream.range(0, 8)
+                                .mapToObj(t -> CompletableFuture.runAsync(
+                                        () -> allowed.addAndGet(RateLimiterTest.allowed(limiter, "k", 1_000)), pool))
+                                .toArray(CompletableFuture[]::new))
+                        .get(30, TimeUnit.SECONDS);
+                assertEquals(1_000, allowed.get(), limiter.getClass().getSimpleName());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
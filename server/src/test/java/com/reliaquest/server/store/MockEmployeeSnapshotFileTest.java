@@ -0,0 +1,60 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeThenRead_roundTripsEveryField() throws IOException {
+        List<MockEmployee> roster = List.of(
+                new MockEmployee(UUID.randomUUID(), "Jill Jenkins", 139082, 48, "Financial Advisor", "jill@company.com"),
+                new MockEmployee(UUID.randomUUID(), "Zo\u00eb \u00c5ngstr\u00f6m", 50000, 25, "Engineer", "zoe@company.com"),
+                new MockEmployee(UUID.randomUUID(), null, null, null, null, null));
+        Path file = dir.resolve("snapshots/roster.bin");
+
+        MockEmployeeSnapshotFile.write(file, 42L, roster);
+
+        assertEquals(roster, MockEmployeeSnapshotFile.read(file));
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void readHeader_tellsSnapshotsOfAnotherCountOrSeedApart() throws IOException {
+        List<MockEmployee> roster = List.of(
+                new MockEmployee(UUID.randomUUID(), "Jill Jenkins", 139082, 48, "Advisor", "jill@company.com"),
+                new MockEmployee(UUID.randomUUID(), "Tom Tuckett", 50000, 25, "Engineer", "tom@company.com"));
+        Path file = dir.resolve("roster.bin");
+        MockEmployeeSnapshotFile.write(file, 42L, roster);
+
+        MockEmployeeSnapshotFile.Header header = MockEmployeeSnapshotFile.readHeader(file);
+
+        assertEquals(new MockEmployeeSnapshotFile.Header(2, 42L), header);
+        assertTrue(header.matches(2, 42L));
+        assertTrue(header.matches(2, null));
+        assertFalse(header.matches(3, 42L));
+        assertFalse(header.matches(2, 7L));
+        assertFalse(header.matches(3, null));
+    }
+
+    @Test
+    void read_rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path file = Files.writeString(dir.resolve("roster.json"), "[{\"id\":\"not a snapshot\"}]");
+
+        assertThrows(IOException.class, () -> MockEmployeeSnapshotFile.read(file));
+        assertThrows(IOException.class, () -> MockEmployeeSnapshotFile.readHeader(file));
+    }
+}
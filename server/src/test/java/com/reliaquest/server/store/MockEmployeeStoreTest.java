@@ -0,0 +1,127 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 100000, 30, "Engineer", "x@company.com");
+    }
+
+    @Test
+    void findAll_keepsInsertionOrder() {
+        MockEmployee a = employee("A");
+        MockEmployee b = employee("B");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(a, b));
+        MockEmployee c = employee("C");
+        store.save(c);
+
+        assertEquals(List.of(a, b, c), store.findAll());
+        assertEquals(c, store.findById(c.getId()).orElseThrow());
+    }
+
+    @Test
+    void deleteFirstByName_removesOldestCaseInsensitiveMatch() {
+        MockEmployee first = employee("Jill Jenkins");
+        MockEmployee second = employee("JILL JENKINS");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(first, second));
+
+        assertEquals(first, store.deleteFirstByName("jill jenkins").orElseThrow());
+        assertTrue(store.findById(first.getId()).isEmpty());
+        assertEquals(second, store.deleteFirstByName("Jill Jenkins").orElseThrow());
+        assertTrue(store.deleteFirstByName("Jill Jenkins").isEmpty());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void concurrentWritesAndReads_doNotFail() {
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            CompletableFuture<?>[] tasks = IntStream.range(0, 2000)
+                    .mapToObj(i -> CompletableFuture.runAsync(
+                            () -> {
+                                store.save(employee("E" + (i % 50)));
+                                store.findAll();
+                                if (i % 2 == 0) {
+                                    store.deleteFirstByName("e" + (i % 50));
+                                }
+                            },
+                            pool))
+                    .toArray(CompletableFuture[]::new);
+            assertDoesNotThrow(() -> CompletableFuture.allOf(tasks).join());
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1000, store.size());
+        assertEquals(1000, store.findAll().size());
+    }
+
+    @Test
+    void saveAll_appendsBatchInOrder() {
+        MockEmployee a = employee("A");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(a));
+        MockEmployee b = employee("B");
+        MockEmployee c = employee("C");
+
+        store.saveAll(List.of(b, c));
+
+        assertEquals(List.of(a, b, c), store.findAll());
+        assertEquals(List.of(c), store.findAfter(store.findPage(0, 2).lastSequence(), 10).employees());
+    }
+
+    @Test
+    void findPage_seeksToTheSamePagesAsOffsetsIntoFindAllBeforeAndAfterRemovals() {
+        MockEmployeeStore store = new MockEmployeeStore(
+                IntStream.range(0, 100).mapToObj(i -> employee("E" + i)).toList());
+        assertPagesMatchFindAll(store, 7);
+
+        store.deleteFirstByNames(List.of("E3", "E40", "E41", "E99"));
+        store.save(employee("Late"));
+        assertPagesMatchFindAll(store, 7);
+        // pages served out of order seek from the closest page end seen so far
+        assertEquals(store.findAll().subList(49, 56), store.findPage(7, 7).employees());
+        assertEquals(store.findAll().subList(7, 14), store.findPage(1, 7).employees());
+
+        store.deleteFirstByName("E0");
+        assertPagesMatchFindAll(store, 10);
+    }
+
+    private static void assertPagesMatchFindAll(MockEmployeeStore store, int limit) {
+        List<MockEmployee> all = store.findAll();
+        for (int page = 0; page * limit <= all.size(); page++) {
+            List<MockEmployee> expected = all.subList(page * limit, Math.min(all.size(), (page + 1) * limit));
+            MockEmployeeStore.Slice slice = store.findPage(page, limit);
+            assertEquals(expected, slice.employees(), "page " + page);
+            assertEquals((page + 1) * limit < all.size(), slice.hasMore(), "page " + page);
+        }
+    }
+
+    @Test
+    void deleteFirstByNames_removesOneMatchPerItemInInputOrder() {
+        MockEmployee first = employee("Jill");
+        MockEmployee second = employee("jill");
+        MockEmployee other = employee("Bob");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(first, second, other));
+
+        List<Optional<MockEmployee>> removed =
+                store.deleteFirstByNames(List.of("JILL", "Nobody", "Bob", "Jill", "jill"));
+
+        assertEquals(Optional.of(first), removed.get(0));
+        assertEquals(Optional.empty(), removed.get(1));
+        assertEquals(Optional.of(other), removed.get(2));
+        assertEquals(Optional.of(second), removed.get(3));
+        assertEquals(Optional.empty(), removed.get(4));
+        assertEquals(0, store.size());
+    }
+}